@@ -0,0 +1,58 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.Common;
+import seedu.duke.exception.InvalidInputException;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the validation done on every command that takes an NRIC or a date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonBenchmark {
+    private static final int ID_COUNT = 1024;
+
+    private final String[] ids = new String[ID_COUNT];
+    private int next = 0;
+
+    /**
+     * This is the constructor of the benchmark, which generates the NRICs to be checked.
+     */
+    public CommonBenchmark() {
+        for (int i = 0; i < ID_COUNT; i++) {
+            ids[i] = SyntheticData.generateNric(i);
+        }
+    }
+
+    @Benchmark
+    public String checkID() throws InvalidInputException {
+        String id = ids[next++ & (ID_COUNT - 1)];
+        Common.checkID(id);
+        return id;
+    }
+
+    @Benchmark
+    public LocalDate parseDate() throws InvalidInputException {
+        return Common.parseDate("31/03/2021");
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return Common.formatDate(LocalDate.of(2021, 3, 31));
+    }
+}
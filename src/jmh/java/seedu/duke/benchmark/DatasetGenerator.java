@@ -0,0 +1,133 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.Common;
+import seedu.duke.Storage;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * This generates a save file and a script of commands at a realistic scale, to be replayed by LoadTestDriver
+ * (or piped into Patient Manager). The commands in the script are valid for the save file generated with it.
+ *
+ * <p>Usage: DatasetGenerator OUTPUT_DIRECTORY [PATIENT_COUNT] [RECORDS_PER_PATIENT] [COMMAND_COUNT] [SEED]
+ * [text|binary]</p>
+ */
+public class DatasetGenerator {
+    public static final String SAVE_FILE_NAME = "pm.save";
+    public static final String SCRIPT_FILE_NAME = "commands.txt";
+
+    private static final int DEFAULT_PATIENT_COUNT = 100_000;
+    private static final int DEFAULT_RECORDS_PER_PATIENT = 10;
+    private static final int DEFAULT_COMMAND_COUNT = 100_000;
+    private static final long DEFAULT_SEED = 2113;
+
+    private final SyntheticData syntheticData;
+    private final List<String> ids;
+    private int addedPatientCount;
+    private String currentID;
+    private final List<LocalDate> recordedDates;
+
+    /**
+     * This is the constructor of the DatasetGenerator class.
+     *
+     * @param syntheticData the generator of patients and records
+     * @param ids           the IDs of the patients in the save file
+     */
+    public DatasetGenerator(SyntheticData syntheticData, List<String> ids) {
+        this.syntheticData = syntheticData;
+        this.ids = ids;
+        this.addedPatientCount = 0;
+        this.currentID = null;
+        this.recordedDates = new ArrayList<>();
+    }
+
+    /**
+     * Generates the next command of the script. Most commands load a patient, then retrieve or add records, as a GP
+     * would do during a consultation.
+     *
+     * @return the command
+     */
+    public String generateCommand() {
+        int roll = syntheticData.nextInt(1000);
+        if (currentID == null || roll < 300) {
+            currentID = ids.get(syntheticData.nextInt(ids.size()));
+            recordedDates.clear();
+            return "load " + currentID;
+        } else if (roll < 550) {
+            if (!recordedDates.isEmpty() && syntheticData.nextInt(2) == 0) {
+                return "retrieve " + Common.formatDate(recordedDates.get(syntheticData.nextInt(recordedDates.size())));
+            }
+            return "retrieve";
+        } else if (roll < 850) {
+            LocalDate date = syntheticData.generateDate();
+            recordedDates.add(date);
+            return "record " + Common.formatDate(date) + " /s " + syntheticData.generateSymptom()
+                    + " /d " + syntheticData.generateDiagnosis() + " /p " + syntheticData.generatePrescription();
+        } else if (roll < 900) {
+            String id = SyntheticData.generateNric(ids.size() + addedPatientCount);
+            addedPatientCount++;
+            return "add " + id;
+        } else if (roll < 950 && !recordedDates.isEmpty()) {
+            return "delete /r " + Common.formatDate(recordedDates.remove(recordedDates.size() - 1));
+        } else if (roll < 995) {
+            return "current";
+        }
+        return "list";
+    }
+
+    /**
+     * Entry point of the generator.
+     *
+     * @param args see the usage in the class description
+     */
+    public static void main(String[] args) throws IOException, StorageException {
+        if (args.length < 1) {
+            System.err.println("Usage: DatasetGenerator OUTPUT_DIRECTORY [PATIENT_COUNT] [RECORDS_PER_PATIENT]"
+                    + " [COMMAND_COUNT] [SEED] [text|binary]");
+            System.exit(1);
+        }
+        File directory = new File(args[0]);
+        int patientCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PATIENT_COUNT;
+        int recordsPerPatient = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RECORDS_PER_PATIENT;
+        int commandCount = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_COMMAND_COUNT;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+        Storage.Format format = args.length > 5 ? Storage.Format.valueOf(args[5].toUpperCase()) : Storage.Format.TEXT;
+        directory.mkdirs();
+
+        SyntheticData syntheticData = new SyntheticData(seed);
+        long startTime = System.nanoTime();
+        SortedMap<String, Patient> patients = syntheticData.generatePatients(patientCount, recordsPerPatient);
+        Storage storage = new Storage(new File(directory, SAVE_FILE_NAME).getPath());
+        storage.setFormat(format);
+        storage.save(patients);
+        long recordCount = 0;
+        for (Patient patient : patients.values()) {
+            recordCount += patient.getRecords().size();
+        }
+        System.out.printf("Generated %d patients with %d records in %.1fs%n", patientCount, recordCount,
+                (System.nanoTime() - startTime) / 1e9);
+
+        DatasetGenerator generator = new DatasetGenerator(syntheticData, new ArrayList<>(patients.keySet()));
+        patients = null;
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(
+                new File(directory, SCRIPT_FILE_NAME).toPath(), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < commandCount; i++) {
+                writer.write(generator.generateCommand());
+                writer.write(System.lineSeparator());
+            }
+            writer.write("exit" + System.lineSeparator());
+        }
+        System.out.printf("Generated %d commands in %s%n", commandCount, directory.getPath());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.command.ListCommand;
+import seedu.duke.exception.InvalidInputException;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of listing all patients, at different numbers of patients. The output is consumed instead of printed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListCommandBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int patientCount;
+
+    private Data data;
+    private BlackholeUi ui;
+
+    /**
+     * Generates the patients to be listed.
+     */
+    @Setup
+    public void setUp() {
+        data = new Data(null, new SyntheticData(patientCount).generatePatients(patientCount, 1));
+        ui = new BlackholeUi();
+    }
+
+    @Benchmark
+    public void execute(Blackhole blackhole) throws InvalidInputException {
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "list");
+        arguments.put("payload", "");
+        ui.blackhole = blackhole;
+        new ListCommand(ui, data, arguments).execute();
+    }
+
+    /**
+     * This Ui passes the messages to the blackhole, so that the cost of the console is not measured.
+     */
+    private static class BlackholeUi extends Ui {
+        private Blackhole blackhole;
+
+        @Override
+        public void printMessage(String message) {
+            blackhole.consume(message);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.Data;
+import seedu.duke.Parser;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.exception.StorageException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This replays a script of commands through Parser and Command.execute(), without going through the console, and
+ * reports the throughput and the latency percentiles of each type of command. Commands are run exactly as in
+ * Patient Manager, including saving the changes, so the save file is modified by the run.
+ *
+ * <p>Usage: LoadTestDriver SAVE_FILE SCRIPT_FILE [sync|on-exit|MILLISECONDS]</p>
+ */
+public class LoadTestDriver {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * This keeps the latencies of one type of command.
+     */
+    private static class Latencies {
+        private long[] nanos = new long[1024];
+        private int count = 0;
+        private int errorCount = 0;
+
+        void add(long latency) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+        }
+
+        String summarize() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            StringBuilder summary = new StringBuilder(String.format("%8d runs %6d errors", count, errorCount));
+            for (double percentile : PERCENTILES) {
+                int index = (int) Math.min(count - 1, Math.ceil(percentile / 100 * count) - 1);
+                summary.append(String.format("  p%-4s %9.1fus", format(percentile), sorted[Math.max(0, index)] / 1e3));
+            }
+            summary.append(String.format("  max %9.1fus", sorted[count - 1] / 1e3));
+            return summary.toString();
+        }
+
+        private static String format(double percentile) {
+            return percentile == Math.floor(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+        }
+    }
+
+    /**
+     * This Ui discards all output, so that the cost of the console is not measured.
+     */
+    private static class SilentUi extends Ui {
+        @Override
+        public void printMessage(String message) {
+            // Discarded
+        }
+    }
+
+    /**
+     * Entry point of the driver.
+     *
+     * @param args see the usage in the class description
+     */
+    public static void main(String[] args) throws IOException, StorageException {
+        if (args.length < 2) {
+            System.err.println("Usage: LoadTestDriver SAVE_FILE SCRIPT_FILE [sync|on-exit|MILLISECONDS]");
+            System.exit(1);
+        }
+        long startTime = System.nanoTime();
+        Storage storage = new Storage(args[0]);
+        Data data = new Data(storage, storage.load());
+        System.out.printf("Loaded %d patients in %.1fms%n", data.getPatients().size(),
+                (System.nanoTime() - startTime) / 1e6);
+        if (args.length > 2) {
+            setDurability(data, args[2]);
+        }
+
+        Ui ui = new SilentUi();
+        Parser parser = new Parser(ui, data);
+        Map<String, Latencies> latencies = new TreeMap<>();
+        long commandCount = 0;
+        startTime = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String type = line.trim().split("\\s+", 2)[0].toLowerCase();
+                Latencies typeLatencies = latencies.computeIfAbsent(type, k -> new Latencies());
+                long commandStartTime = System.nanoTime();
+                try {
+                    Command command = parser.parse(line);
+                    command.execute();
+                } catch (Exception e) {
+                    typeLatencies.errorCount++;
+                }
+                typeLatencies.add(System.nanoTime() - commandStartTime);
+                commandCount++;
+            }
+        }
+        data.flush();
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Ran %d commands in %.2fs (%.0f commands/s)%n", commandCount, elapsedSeconds,
+                commandCount / elapsedSeconds);
+        for (Map.Entry<String, Latencies> entry : latencies.entrySet()) {
+            System.out.printf("%-10s %s%n", entry.getKey(), entry.getValue().summarize());
+        }
+    }
+
+    private static void setDurability(Data data, String durability) {
+        if (durability.equals("sync")) {
+            data.setDurability(Data.Durability.SYNC, 0);
+        } else if (durability.equals("on-exit")) {
+            data.setDurability(Data.Durability.ON_EXIT, 0);
+        } else {
+            data.setDurability(Data.Durability.INTERVAL, Long.parseLong(durability));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.Data;
+import seedu.duke.Parser;
+import seedu.duke.Ui;
+import seedu.duke.command.Command;
+import seedu.duke.command.CommandRegistry;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.UnknownException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of parsing a single line of input into a command. parseWithRegexTokenizer() is the baseline, which
+ * tokenizes the line the way Parser did before it was changed to a single pass, and then creates the command the
+ * same way as parse().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "list",
+        "load S1234567D",
+        "record 31/03/2021 /s coughing, fever /d influenza /p paracetamol 500mg, rest",
+        "   record    31/03/2021   /s coughing,    fever /p   rest   "
+    })
+    public String line;
+
+    private Parser parser;
+    private Ui ui;
+    private Data data;
+
+    @Setup
+    public void setUp() {
+        ui = new Ui();
+        data = new Data();
+        parser = new Parser(ui, data);
+    }
+
+    @Benchmark
+    public Command parse() throws InvalidInputException, UnknownException {
+        return parser.parse(line);
+    }
+
+    @Benchmark
+    public Command parseWithRegexTokenizer() throws InvalidInputException, UnknownException {
+        HashMap<String, String> arguments = new HashMap<>();
+        String command = tokenizeWithRegex(line, arguments);
+        return CommandRegistry.get(command).create(ui, data, arguments);
+    }
+
+    /**
+     * Tokenizes a line of command as Parser did before the single-pass tokenizer: the forbidden substrings are
+     * looked for once each, the line is split with a regular expression, and the tokens of each value are joined.
+     */
+    private static String tokenizeWithRegex(String fullCommand, HashMap<String, String> arguments)
+            throws InvalidInputException {
+        for (String string : Parser.forbiddenSubstrings) {
+            if (fullCommand.contains(string)) {
+                throw new InvalidInputException(InvalidInputException.Type.FORBIDDEN_SUBSTRING);
+            }
+        }
+        String[] tokens = fullCommand.split("\\s+");
+        if (tokens.length == 0) {
+            throw new InvalidInputException(InvalidInputException.Type.EMPTY_STRING);
+        }
+        if (tokens[0].isEmpty()) {
+            tokens = Arrays.copyOfRange(tokens, 1, tokens.length);
+            if (tokens.length == 0) {
+                throw new InvalidInputException(InvalidInputException.Type.EMPTY_STRING);
+            }
+        }
+        String command = tokens[0].toLowerCase();
+        arguments.put("command", command);
+        String key = "payload";
+        List<String> values = new ArrayList<>();
+        for (int i = 1; i < tokens.length; ++i) {
+            String token = tokens[i];
+            if (!token.isEmpty() && token.charAt(0) == '/') {
+                arguments.put(key, String.join(Parser.DELIMITER, values));
+                key = token.substring(1);
+                values.clear();
+            } else {
+                values.add(token);
+            }
+        }
+        arguments.put(key, String.join(Parser.DELIMITER, values));
+        return command;
+    }
+
+    /**
+     * Unknown commands are rejected by the parser, which should not be much slower than accepting a command.
+     */
+    @Benchmark
+    public Object parseUnknownCommand() {
+        try {
+            return parser.parse("unknown " + line);
+        } catch (InvalidInputException | UnknownException e) {
+            return e;
+        }
+    }
+}
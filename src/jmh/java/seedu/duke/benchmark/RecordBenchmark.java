@@ -0,0 +1,62 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.Storage;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.RecordMap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of converting a single patient's records, at different numbers of records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordBenchmark {
+    @Param({"1", "10", "100"})
+    public int recordCount;
+
+    private Storage storage;
+    private Patient patient;
+    private String recordString;
+
+    /**
+     * Generates the patient whose records are converted by the benchmarks.
+     */
+    @Setup
+    public void setUp() throws StorageException {
+        storage = new Storage();
+        patient = new SyntheticData(recordCount).generatePatient(SyntheticData.generateNric(0), recordCount);
+        recordString = storage.convertRecordToString(patient);
+    }
+
+    @Benchmark
+    public String convertRecordToString() throws StorageException {
+        return storage.convertRecordToString(patient);
+    }
+
+    @Benchmark
+    public RecordMap convertStringToRecords() throws StorageException {
+        return storage.convertStringToRecords(recordString);
+    }
+
+    @Benchmark
+    public String getRecord() throws StorageException {
+        return patient.getRecord();
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jol.info.GraphLayout;
+import seedu.duke.model.Record;
+
+/**
+ * This prints the number of bytes taken by a single record of different shapes, as measured by JOL. Details are
+ * kept in the shared term dictionary, so only the memory which grows with the number of visits is counted.
+ *
+ * <p>Usage: RecordFootprint</p>
+ */
+public class RecordFootprint {
+    public static void main(String[] args) {
+        SyntheticData syntheticData = new SyntheticData(0);
+        printFootprint("no detail", new Record());
+
+        Record symptomOnly = new Record();
+        symptomOnly.addDetails(syntheticData.generateSymptom(), null, null);
+        printFootprint("1 symptom", symptomOnly);
+
+        Record allFields = new Record();
+        allFields.addDetails(syntheticData.generateSymptom(), syntheticData.generateDiagnosis(),
+                syntheticData.generatePrescription());
+        printFootprint("1 detail in each field", allFields);
+
+        Record manyDetails = new Record();
+        for (int i = 0; i < 3; i++) {
+            manyDetails.addDetails(syntheticData.generateSymptom(), syntheticData.generateDiagnosis(),
+                    syntheticData.generatePrescription());
+        }
+        printFootprint("3 details in each field", manyDetails);
+    }
+
+    private static void printFootprint(String shape, Record record) {
+        GraphLayout layout = GraphLayout.parseInstance(record);
+        System.out.printf("%-24s %4d bytes in %d objects%n", shape, layout.totalSize(), layout.totalCount());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duke.Data;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.RecordIndex;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of searching the details of a million records by prefixes of words. The index is built during setup,
+ * so only the search itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class SearchBenchmark {
+    private static final int PATIENT_COUNT = 200_000;
+    private static final int RECORDS_PER_PATIENT = 5;
+    private static final int LIMIT = 20;
+
+    @Param({"para", "para 500", "heat str", "a"})
+    public String query;
+
+    private Data data;
+
+    /**
+     * Generates the patients and builds the index of their records.
+     */
+    @Setup
+    public void setUp() throws StorageException {
+        data = new Data(null, new SyntheticData(PATIENT_COUNT).generatePatients(PATIENT_COUNT, RECORDS_PER_PATIENT));
+        data.searchRecords(query, null, null, 1);
+    }
+
+    @Benchmark
+    public List<RecordIndex.Visit> search() throws StorageException {
+        return data.searchRecords(query, null, null, LIMIT);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.duke.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.duke.Constants;
+import seedu.duke.Storage;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of loading and saving the whole save file, at different numbers of patients. The load benchmarks give
+ * the load times of the single-pass save file parser at 10k, 100k and 1M patients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StorageBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int patientCount;
+
+    @Param({"3"})
+    public int recordsPerPatient;
+
+    @Param({"TEXT", "BINARY"})
+    public Storage.Format format;
+
+    private File saveFile;
+    private SortedMap<String, Patient> patients;
+
+    /**
+     * Generates the patients and writes the save file which is loaded by the benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, StorageException {
+        saveFile = File.createTempFile("pm-benchmark", ".save");
+        patients = new SyntheticData(patientCount).generatePatients(patientCount, recordsPerPatient);
+        Storage storage = new Storage(saveFile.getPath());
+        storage.setFormat(format);
+        storage.save(patients);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        saveFile.delete();
+        new File(saveFile.getPath() + Constants.INDEX_FILE_SUFFIX).delete();
+        new File(saveFile.getPath() + Constants.JOURNAL_FILE_SUFFIX).delete();
+    }
+
+    /**
+     * Startup cost: only the patient list is read, using the index.
+     */
+    @Benchmark
+    public SortedMap<String, Patient> load() throws StorageException {
+        return new Storage(saveFile.getPath()).load();
+    }
+
+    /**
+     * Startup cost when the index is missing and has to be rebuilt from the save file.
+     */
+    @Benchmark
+    public SortedMap<String, Patient> loadWithoutIndex() throws StorageException {
+        new File(saveFile.getPath() + Constants.INDEX_FILE_SUFFIX).delete();
+        return new Storage(saveFile.getPath()).load();
+    }
+
+    /**
+     * Cost of reading every record, e.g. for a full export.
+     */
+    @Benchmark
+    public void loadAllRecords(Blackhole blackhole) throws StorageException {
+        for (Patient patient : new Storage(saveFile.getPath()).load().values()) {
+            blackhole.consume(patient.getRecords());
+        }
+    }
+
+    /**
+     * Cost of writing a full snapshot of patients which are all in memory.
+     */
+    @Benchmark
+    public void save() throws StorageException {
+        Storage storage = new Storage(saveFile.getPath());
+        storage.setFormat(format);
+        storage.save(patients);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.duke.benchmark;
+
+import seedu.duke.Constants;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * This generates synthetic patients and records for benchmarks and load tests. The same seed always produces the
+ * same data, so results can be compared across runs and releases.
+ */
+public class SyntheticData {
+    private static final char[] PREFIXES = {'S', 'T', 'F', 'G'};
+    private static final int[] WEIGHTS = {2, 7, 6, 5, 4, 3, 2};
+    private static final int NUMBER_COUNT = 10_000_000;
+    // A prime which does not divide NUMBER_COUNT, so that consecutive indices are spread over all numbers
+    private static final int NUMBER_STEP = 7_919_993;
+    private static final LocalDate FIRST_VISIT = LocalDate.of(2000, 1, 1);
+    private static final int VISIT_DAYS = 365 * 20;
+
+    private static final String[] SYMPTOMS = {
+        "coughing", "fever", "headache", "sore throat", "runny nose", "fatigue", "dizziness", "nausea",
+        "abdominal pain", "back pain", "rash", "shortness of breath", "chest pain", "joint pain"
+    };
+    private static final String[] DIAGNOSES = {
+        "common cold", "influenza", "migraine", "gastritis", "hypertension", "diabetes", "sprain", "eczema",
+        "bronchitis", "heat stroke", "mild UTI", "tonsillitis"
+    };
+    private static final String[] PRESCRIPTIONS = {
+        "paracetamol 500mg", "ibuprofen 200mg", "cough syrup", "antihistamine", "antibiotics", "rest",
+        "oral rehydration salts", "antacid", "topical cream", "referral to hospital", "cooling packs"
+    };
+
+    private final Random random;
+
+    /**
+     * This is the constructor of the SyntheticData class.
+     *
+     * @param seed the seed of the random generator
+     */
+    public SyntheticData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a valid NRIC/FIN. Different indices below 40 million always give different NRICs, and the
+     * NRICs are spread over all prefixes and numbers instead of being consecutive.
+     *
+     * @param index the index of the NRIC
+     * @return the NRIC, which passes Common.checkID
+     */
+    public static String generateNric(long index) {
+        char prefix = PREFIXES[(int) (index % PREFIXES.length)];
+        int number = (int) ((index / PREFIXES.length * NUMBER_STEP) % NUMBER_COUNT);
+        char[] nric = new char[Constants.ID_NUMBER_OF_CHARACTERS];
+        nric[0] = prefix;
+        int checksum = prefix == 'T' || prefix == 'G' ? Constants.CHECKSUM_NUMBER : 0;
+        for (int i = WEIGHTS.length - 1; i >= 0; i--) {
+            int digit = number % 10;
+            number /= 10;
+            nric[i + 1] = (char) ('0' + digit);
+            checksum += digit * WEIGHTS[i];
+        }
+        checksum %= Constants.CHECKSUM_MOD;
+        nric[nric.length - 1] = prefix == 'S' || prefix == 'T'
+                ? Constants.ST_NRIC_CHECKDIGIT[checksum]
+                : Constants.FG_NRIC_CHECKDIGIT[checksum];
+        return new String(nric);
+    }
+
+    /**
+     * Generates a patient with records on distinct dates.
+     *
+     * @param id          unique identifier of the patient
+     * @param recordCount number of records
+     * @return the patient generated
+     */
+    public Patient generatePatient(String id, int recordCount) {
+        RecordMap records = new RecordMap();
+        for (int i = 0; i < recordCount; i++) {
+            LocalDate date = generateDate();
+            while (records.containsKey(date)) {
+                date = date.plusDays(1);
+            }
+            Record record = new Record();
+            record.addDetails(pick(SYMPTOMS), pick(DIAGNOSES), pick(PRESCRIPTIONS));
+            records.put(date, record);
+        }
+        return new Patient(id, records);
+    }
+
+    /**
+     * Generates a patient list.
+     *
+     * @param patientCount       number of patients
+     * @param recordsPerPatient  average number of records of each patient, the actual number varies between 0 and
+     *                           twice the average
+     * @return the patient list
+     */
+    public SortedMap<String, Patient> generatePatients(int patientCount, int recordsPerPatient) {
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        for (int i = 0; i < patientCount; i++) {
+            String id = generateNric(i);
+            patients.put(id, generatePatient(id, random.nextInt(recordsPerPatient * 2 + 1)));
+        }
+        return patients;
+    }
+
+    /**
+     * Generates a date within the 20 years before 2020.
+     *
+     * @return the date generated
+     */
+    public LocalDate generateDate() {
+        return FIRST_VISIT.plusDays(random.nextInt(VISIT_DAYS));
+    }
+
+    public String generateSymptom() {
+        return pick(SYMPTOMS);
+    }
+
+    public String generateDiagnosis() {
+        return pick(DIAGNOSES);
+    }
+
+    public String generatePrescription() {
+        return pick(PRESCRIPTIONS);
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.duke;
+
+import seedu.duke.command.Command;
+import seedu.duke.exception.StorageException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * This runs the commands in a file without any user interaction. Instead of saving after every command, the changes
+ * are saved every flushInterval commands (if it is positive) and at the end. A command which fails does not stop the
+ * run, the error is reported together with its line number.
+ */
+public class BatchRunner {
+    private final Ui ui;
+    private final Data data;
+    private final Parser parser;
+    private final int flushInterval;
+    private int commandCount;
+    private int errorCount;
+
+    /**
+     * This is the constructor of the BatchRunner class. The changes made to data are only saved by this instance
+     * from now on, so the durability of data is set to ON_EXIT.
+     *
+     * @param ui            Instance of Ui class, for output
+     * @param data          Instance of Data class, for manipulating patient list
+     * @param flushInterval number of commands between saves, or 0 to only save at the end
+     */
+    public BatchRunner(Ui ui, Data data, int flushInterval) {
+        assert flushInterval >= 0 : "The flush interval should have been checked";
+        this.ui = ui;
+        this.data = data;
+        this.parser = new Parser(ui, data);
+        this.flushInterval = flushInterval;
+        data.setDurability(Data.Durability.ON_EXIT, 0);
+    }
+
+    /**
+     * Runs the commands in a file.
+     *
+     * @param batchPath path to the file of commands, one command per line
+     * @return number of commands which failed, including failed saves
+     */
+    public int run(String batchPath) {
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(batchPath), StandardCharsets.UTF_8)) {
+            runCommands(reader);
+        } catch (IOException e) {
+            ui.printMessage(Constants.BATCH_FILE_READ_FAIL_MESSAGE + batchPath);
+            errorCount++;
+        }
+        return finish();
+    }
+
+    /**
+     * Runs the commands read from a reader, one command per line.
+     *
+     * @param reader reader of the commands
+     * @return number of commands which failed, including failed saves
+     * @throws IOException when the commands cannot be read, after saving the changes made by the commands before
+     */
+    public int run(BufferedReader reader) throws IOException {
+        try {
+            runCommands(reader);
+        } finally {
+            finish();
+        }
+        return errorCount;
+    }
+
+    private void runCommands(BufferedReader reader) throws IOException {
+        int lineNumber = 0;
+        String fullCommand;
+        boolean isExit = false;
+        while (!isExit && (fullCommand = reader.readLine()) != null) {
+            lineNumber++;
+            if (fullCommand.isBlank()) {
+                continue;
+            }
+            commandCount++;
+            ui.printLine();
+            try {
+                Command cmd = parser.parse(fullCommand);
+                cmd.execute();
+                isExit = cmd.isExit();
+            } catch (Exception e) {
+                errorCount++;
+                ui.printMessage(String.format(Constants.BATCH_LINE_ERROR_MESSAGE, lineNumber));
+                ui.printException(e);
+            } finally {
+                ui.printLine();
+                ui.flush();
+            }
+            if (flushInterval > 0 && commandCount % flushInterval == 0) {
+                flush();
+            }
+        }
+    }
+
+    private int finish() {
+        flush();
+        ui.printMessage(String.format(Constants.BATCH_SUMMARY_MESSAGE, commandCount, errorCount));
+        ui.flush();
+        return errorCount;
+    }
+
+    private void flush() {
+        try {
+            data.flush();
+        } catch (StorageException e) {
+            ui.printException(e);
+            errorCount++;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+import seedu.duke.model.TermDictionary;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * This class reads and writes the binary format of the save file. Every value is length-prefixed, so no delimiters
+ * are needed, and dates are stored as epoch days.
+ *
+ * <p>Layout of the file (all numbers are big-endian):</p>
+ * <pre>
+ * header:        MAGIC (4 bytes), VERSION (1 byte), generation (long)
+ * string table:  count (int), then count strings (modified UTF-8, each prefixed with its length)
+ * patients:      count (int), then for each patient:
+ *                    ID (modified UTF-8), record count (int), then for each record:
+ *                        epoch day (int), then for symptoms, diagnoses and prescriptions:
+ *                            count (int), then count indices into the string table (int)
+ * </pre>
+ * Each distinct symptom, diagnosis or prescription is stored only once in the string table.
+ * The records of a patient take up a contiguous range of bytes, which is what the patient index points to.
+ *
+ * <p>In memory, the string table is kept as the codes of its strings in the shared TermDictionary, so records are
+ * read and written by their codes without decoding or hashing any detail.</p>
+ */
+public class BinarySaveFile {
+    /**
+     * The first byte cannot appear at the start of the text format, which is how the two formats are told apart.
+     */
+    public static final byte[] MAGIC = {0, 'P', 'M', 'B'};
+    public static final byte VERSION = 1;
+
+    /**
+     * Checks whether the start of a file belongs to the binary format.
+     *
+     * @param header the first bytes of the file
+     * @param length number of bytes actually read into header
+     * @return true if the file is in the binary format, otherwise false
+     */
+    public static boolean isBinary(byte[] header, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes patients to a stream in the binary format.
+     *
+     * <p>The string table always starts with the strings in baseCodes, in the same order. This keeps the indices in
+     * the records of patients which have not been loaded valid, so their bytes can be copied over as they are.</p>
+     *
+     * @param outputStream the stream to write to, it should be buffered
+     * @param patients     the patients to be written, in the order they should be stored
+     * @param generation   the generation number of this snapshot
+     * @param baseCodes    the string table of the previous snapshot, as codes in the shared dictionary
+     * @param rawRecords   returns the bytes of a patient's records which can be copied from the previous snapshot,
+     *                     or null if the records need to be encoded
+     * @param index        the index which the location of each patient's records is added to
+     * @return the string table of this snapshot, as codes in the shared dictionary
+     * @throws IOException      when the underlying stream fails
+     * @throws StorageException when the records of a patient cannot be read from the previous snapshot
+     */
+    public static int[] write(CountingOutputStream outputStream, Collection<Patient> patients, long generation,
+            int[] baseCodes, Function<Patient, byte[]> rawRecords, PatientIndex index)
+            throws IOException, StorageException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.write(MAGIC);
+        output.writeByte(VERSION);
+        output.writeLong(generation);
+
+        StringTable stringTable = buildStringTable(patients, baseCodes);
+        TermDictionary dictionary = TermDictionary.getInstance();
+        output.writeInt(stringTable.size);
+        for (int i = 0; i < stringTable.size; i++) {
+            output.writeUTF(dictionary.decode(stringTable.codes[i]));
+        }
+
+        output.writeInt(patients.size());
+        for (Patient patient : patients) {
+            output.writeUTF(patient.getID());
+            long offset = outputStream.getCount();
+            byte[] raw = rawRecords.apply(patient);
+            if (raw != null) {
+                output.write(raw);
+            } else {
+                writeRecords(output, patient.getRecords(), stringTable);
+            }
+            index.add(patient.getID(), offset, (int) (outputStream.getCount() - offset));
+        }
+        output.flush();
+        return Arrays.copyOf(stringTable.codes, stringTable.size);
+    }
+
+    private static void writeRecords(DataOutputStream output, RecordMap records, StringTable stringTable)
+            throws IOException {
+        output.writeInt(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Record record = records.getRecordAt(i);
+            output.writeInt(records.getEpochDayAt(i));
+            int symptomEnd = record.getSymptomCount();
+            int diagnosisEnd = symptomEnd + record.getDiagnosisCount();
+            writeDetails(output, record, 0, symptomEnd, stringTable);
+            writeDetails(output, record, symptomEnd, diagnosisEnd, stringTable);
+            writeDetails(output, record, diagnosisEnd, record.getCodeCount(), stringTable);
+        }
+    }
+
+    private static StringTable buildStringTable(Collection<Patient> patients, int[] baseCodes)
+            throws StorageException {
+        StringTable stringTable = new StringTable(baseCodes.length);
+        for (int code : baseCodes) {
+            stringTable.add(code);
+        }
+        for (Patient patient : patients) {
+            if (!patient.isLoaded()) {
+                // Strings of patients which have not been loaded are already in baseCodes
+                continue;
+            }
+            for (Record record : patient.getRecords().values()) {
+                for (int i = 0; i < record.getCodeCount(); i++) {
+                    stringTable.add(record.getCodeAt(i));
+                }
+            }
+        }
+        return stringTable;
+    }
+
+    /**
+     * Writes the details of a record from index from (inclusive) to index to (exclusive), as numbered by
+     * Record.getCodeAt().
+     */
+    private static void writeDetails(DataOutputStream output, Record record, int from, int to,
+            StringTable stringTable) throws IOException {
+        output.writeInt(to - from);
+        for (int i = from; i < to; i++) {
+            output.writeInt(stringTable.indexOf(record.getCodeAt(i)));
+        }
+    }
+
+    /**
+     * Reads the string table, which comes right after the header.
+     *
+     * @param input the stream to read from, positioned right after the header
+     * @return the string table
+     * @throws IOException when the underlying stream fails
+     */
+    public static String[] readStringTable(DataInputStream input) throws IOException {
+        String[] strings = new String[input.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = input.readUTF();
+        }
+        return strings;
+    }
+
+    /**
+     * Builds the index by scanning the patients, which come right after the string table. Only the patients' IDs
+     * are decoded, records are skipped over using their lengths.
+     *
+     * @param countingStream the stream which input reads from, used to find out the offsets
+     * @param input          the stream to read from, positioned right after the string table
+     * @param generation     generation number of the save file
+     * @return the index built
+     * @throws IOException when the underlying stream fails
+     */
+    public static PatientIndex scanPatients(CountingInputStream countingStream, DataInputStream input,
+            long generation) throws IOException {
+        PatientIndex index = new PatientIndex(generation);
+        int patientCount = input.readInt();
+        for (int i = 0; i < patientCount; i++) {
+            String id = input.readUTF();
+            long offset = countingStream.getCount();
+            int recordCount = input.readInt();
+            for (int j = 0; j < recordCount; j++) {
+                // Epoch day, then count and indices for symptoms, diagnoses and prescriptions
+                skipFully(input, Integer.BYTES);
+                for (int k = 0; k < 3; k++) {
+                    skipFully(input, (long) input.readInt() * Integer.BYTES);
+                }
+            }
+            index.add(id, offset, (int) (countingStream.getCount() - offset));
+        }
+        return index;
+    }
+
+    private static void skipFully(DataInputStream input, long n) throws IOException {
+        while (n > 0) {
+            int skipped = input.skipBytes((int) Math.min(n, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            n -= skipped;
+        }
+    }
+
+    /**
+     * Reads a single patient's records.
+     *
+     * @param input   the stream to read from, positioned at the start of the patient's records
+     * @param strings the string table of the save file
+     * @return map of records read
+     * @throws IOException      when the underlying stream fails
+     * @throws StorageException when the records are malformed
+     */
+    public static RecordMap readRecords(DataInputStream input, int[] codes) throws IOException, StorageException {
+        RecordMap records = new RecordMap();
+        int recordCount = input.readInt();
+        for (int j = 0; j < recordCount; j++) {
+            int date = input.readInt();
+            int[] symptoms = readDetails(input, codes);
+            int[] diagnoses = readDetails(input, codes);
+            int[] prescriptions = readDetails(input, codes);
+            records.put(date, new Record(symptoms, diagnoses, prescriptions));
+        }
+        return records;
+    }
+
+    /**
+     * Reads the header of the binary format.
+     *
+     * @param input the stream to read from, positioned at the start of the file
+     * @return the generation number of the file
+     * @throws IOException      when the underlying stream fails
+     * @throws StorageException when the header is malformed or of an unsupported version
+     */
+    public static long readHeader(DataInputStream input) throws IOException, StorageException {
+        byte[] magic = new byte[MAGIC.length];
+        input.readFully(magic);
+        if (!isBinary(magic, magic.length) || input.readByte() != VERSION) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+        }
+        return input.readLong();
+    }
+
+    private static int[] readDetails(DataInputStream input, int[] codes) throws IOException, StorageException {
+        int count = input.readInt();
+        if (count < 0 || count > codes.length) {
+            // Details of a record are distinct, so there cannot be more of them than strings
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+        }
+        int[] details = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index = input.readInt();
+            if (index < 0 || index >= codes.length) {
+                throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+            }
+            details[i] = codes[index];
+        }
+        return details;
+    }
+
+    /**
+     * This is the string table being built for a snapshot. It maps the codes of the strings in the shared dictionary
+     * to their indices in the table, through an array indexed by code, as the codes are small and dense.
+     */
+    private static class StringTable {
+        private static final int NOT_IN_TABLE = -1;
+
+        private int[] codes;
+        private int[] indices;
+        private int size;
+
+        private StringTable(int capacity) {
+            codes = new int[Math.max(capacity, 1)];
+            indices = new int[TermDictionary.getInstance().size()];
+            Arrays.fill(indices, NOT_IN_TABLE);
+            size = 0;
+        }
+
+        private void add(int code) {
+            if (code >= indices.length) {
+                int oldLength = indices.length;
+                indices = Arrays.copyOf(indices, Math.max(code + 1, oldLength * 2));
+                Arrays.fill(indices, oldLength, indices.length, NOT_IN_TABLE);
+            }
+            if (indices[code] != NOT_IN_TABLE) {
+                return;
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size] = code;
+            indices[code] = size;
+            size++;
+        }
+
+        private int indexOf(int code) {
+            return indices[code];
+        }
+    }
+}
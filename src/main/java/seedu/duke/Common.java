@@ -6,14 +6,19 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.SortedMap;
 
 /**
  * This is a common class providing some miscellaneous functionalities.
  */
 public class Common {
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(Constants.DATE_PATTERN);
+    private static final DateTimeFormatter STRICT_DATE_FORMATTER =
+            DATE_FORMATTER.withResolverStyle(ResolverStyle.STRICT);
+
     //@@author hiongkaihan
     /**
-     * Checks whether the patient's ID is valid.
+     * Checks whether the patient's ID is valid, i.e. a valid NRIC/FIN number.
      *
      * @param id Unique identifier of the patient to be retrieved
      * @throws InvalidInputException when an invalid input has been given
@@ -82,6 +87,10 @@ public class Common {
                 }
             }
         }
+        // Digits other than 0 to 9, e.g. from other scripts, pass the checks above but cannot be packed
+        if (Nric.pack(id) == Nric.NOT_PACKED) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_NRIC);
+        }
     }
 
     //@@author brandonfoong
@@ -98,10 +107,7 @@ public class Common {
         }
         LocalDate date = null;
         try {
-            date = LocalDate.parse(
-                    dateString,
-                    DateTimeFormatter.ofPattern(Constants.DATE_PATTERN).withResolverStyle(ResolverStyle.STRICT)
-            );
+            date = LocalDate.parse(dateString, STRICT_DATE_FORMATTER);
         } catch (DateTimeParseException e) {
             throw new InvalidInputException(InvalidInputException.Type.INVALID_DATE, e);
         }
@@ -119,6 +125,31 @@ public class Common {
      * @return a string representation of the date, in the format dd/MM/yyyy
      */
     public static String formatDate(LocalDate date) {
-        return date.format(DateTimeFormatter.ofPattern(Constants.DATE_PATTERN));
+        return date.format(DATE_FORMATTER);
+    }
+
+    /**
+     * Gets the entries of a sorted map between two bounds. This is a view of the map rather than a copy, so the cost
+     * does not depend on the number of entries outside the range. Unlike SortedMap.subMap(), an empty range is
+     * returned instead of an exception when the bounds are in the wrong order.
+     *
+     * @param map        the sorted map
+     * @param lowerBound the smallest key in the range, or null for no lower bound
+     * @param upperBound the smallest key after the range, or null for no upper bound
+     * @return the entries in the range
+     */
+    public static <K extends Comparable<? super K>, V> SortedMap<K, V> getRange(SortedMap<K, V> map, K lowerBound,
+            K upperBound) {
+        if (lowerBound != null && upperBound != null) {
+            if (lowerBound.compareTo(upperBound) >= 0) {
+                return map.subMap(lowerBound, lowerBound);
+            }
+            return map.subMap(lowerBound, upperBound);
+        } else if (lowerBound != null) {
+            return map.tailMap(lowerBound);
+        } else if (upperBound != null) {
+            return map.headMap(upperBound);
+        }
+        return map;
     }
 }
@@ -8,7 +8,8 @@ public class Constants {
 
     // Help messages
     public static final String COMMAND_LIST_MESSAGE = "Here is a list of available commands:\n"
-            + "  add\n  delete\n  list\n  load\n  record\n  retrieve\n  current\n  exit\n"
+            + "  add\n  delete\n  list\n  load\n  record\n  retrieve\n  find\n  search\n  current\n  convert\n"
+            + "  import\n  export\n  exit\n"
             + "Type 'help' followed by one or more commands for more details.\n"
             + "Example: help record";
     public static final String ADD_INFO_MESSAGE = "Add a patient to the list.\n"
@@ -25,7 +26,10 @@ public class Constants {
             + "Usage: delete /r DATE\n"
             + "Example: delete /r 26/03/2021\n";
     public static final String LIST_INFO_MESSAGE = "Show the list of all patients.\n"
-            + "Usage: list\n";
+            + "The list can be limited to IC numbers starting with a prefix or within a range, and split into pages.\n"
+            + "Argument(s): prefix, first and last IC number, number of patients, IC number before the page\n"
+            + "Usage: list [PREFIX] [/start IC_NUMBER] [/end IC_NUMBER] [/limit NUMBER] [/after IC_NUMBER]\n"
+            + "Example: list S12 /limit 20\n";
     public static final String LOAD_INFO_MESSAGE = "Select a specified patient to add and retrieve records.\n"
             + "Command prefix: load\n"
             + "Argument(s): IC number\n"
@@ -37,9 +41,48 @@ public class Constants {
             + "Usage: record [CONSULTATION_DATE] [/s SYMPTOM] [/d DIAGNOSIS] [/p PRESCRIPTION]\n"
             + "Example: record /s fever\n";
     public static final String RETRIEVE_INFO_MESSAGE = "Retrieve past consultation record from the selected patient.\n"
-            + "Usage: retrieve\n";
+            + "Records can be retrieved for a date, a range of dates, or the most recent visits.\n"
+            + "Argument(s): date, first and last date, number of visits\n"
+            + "Usage: retrieve [DATE] | retrieve [/from DATE] [/to DATE] | retrieve /last NUMBER\n"
+            + "Example: retrieve /from 01/01/2021 /to 31/03/2021\n";
+    public static final String FIND_INFO_MESSAGE =
+            "Find the visits of all patients with a symptom, diagnosis or prescription.\n"
+            + "The whole detail is matched, ignoring case. Visits are shown from the most recent.\n"
+            + "Command prefix: find\n"
+            + "Argument(s): detail in any field, or symptom, diagnosis or prescription, first and last date, "
+            + "number of visits\n"
+            + "Usage: find DETAIL|/s SYMPTOM|/d DIAGNOSIS|/p PRESCRIPTION [/from DATE] [/to DATE] [/limit NUMBER]\n"
+            + "Example: find /d flu /from 01/03/2021\n";
+    public static final String SEARCH_INFO_MESSAGE = "Search the visits of all patients by words in their details.\n"
+            + "Each word matches any word starting with it, e.g. para matches paracetamol. Visits must contain all\n"
+            + "the words, in any field. Visits are shown from the most recent.\n"
+            + "Command prefix: search\n"
+            + "Argument(s): words, first and last date, number of visits\n"
+            + "Usage: search WORDS [/from DATE] [/to DATE] [/limit NUMBER]\n"
+            + "Example: search para 500 /limit 10\n";
     public static final String CURRENT_INFO_MESSAGE = "Print out the current patient being loaded.\n"
             + "Usage: current\n";
+    public static final String CONVERT_INFO_MESSAGE = "Convert the save file to the text or binary format.\n"
+            + "The binary format is smaller and faster to load. Both formats can be loaded at any time.\n"
+            + "Command prefix: convert\n"
+            + "Argument(s): format\n"
+            + "Usage: convert text|binary\n"
+            + "Example: convert binary\n";
+    public static final String IMPORT_INFO_MESSAGE = "Import patients and their records from a CSV file.\n"
+            + "Each row has the columns: IC number, date, symptom, diagnosis, prescription.\n"
+            + "Rows with only the IC number add the patient without any record. Invalid rows are skipped.\n"
+            + "Command prefix: import\n"
+            + "Argument(s): path to the CSV file\n"
+            + "Usage: import FILE_PATH\n"
+            + "Example: import patients.csv\n";
+    public static final String EXPORT_INFO_MESSAGE =
+            "Export patients and their records to a file, one record per row.\n"
+            + "Patients can be limited to a range of IC numbers, and records to a range of dates.\n"
+            + "Command prefix: export\n"
+            + "Argument(s): path to the file, format, first and last IC number, first and last date\n"
+            + "Usage: export FILE_PATH [/format csv|jsonl] [/start IC_NUMBER] [/end IC_NUMBER]"
+            + " [/from DATE] [/to DATE]\n"
+            + "Example: export visits.csv /start S0000000A /end S9999999Z /from 01/01/2021\n";
     public static final String HELP_INFO_MESSAGE = "Displays a list of commands or information of selected commands.\n"
             + "Command prefix: help\n"
             + "Argument(s): commands\n"
@@ -50,7 +93,22 @@ public class Constants {
 
     public static final String INVALID_COMMAND_MESSAGE = "Invalid command: %s";
 
+    public static final String IMPORT_LINE_ERROR_MESSAGE = "Line %d: %s";
+    public static final String IMPORT_SUMMARY_MESSAGE =
+            "Imported %d rows: %d new patients, %d patients in total. %d invalid rows were skipped.";
+    // Only the first errors are printed, so that a file in the wrong format does not flood the output
+    public static final int IMPORT_MAX_ERRORS_SHOWN = 20;
+
+    public static final String EXPORT_SUMMARY_MESSAGE = "Exported %d patients and %d records to %s.";
+
+    public static final String FIND_VISITS_MESSAGE = "Found %d visits with \"%s\" (most recent first):";
+    public static final String FIND_NO_VISITS_MESSAGE = "No visits found with \"%s\".";
+    public static final String SEARCH_VISITS_MESSAGE = "Visits matching \"%s\" (most recent first):";
+    public static final String SEARCH_NO_VISITS_MESSAGE = "No visits match \"%s\".";
+
     public static final String EMPTY_LIST_MESSAGE = "List is currently empty!";
+    public static final String NO_MATCHING_PATIENTS_MESSAGE = "No patients found in the given range.";
+    public static final String LIST_NEXT_PAGE_MESSAGE = "There are more patients, add \"/after %s\" to see them.";
 
     public static final String LONG_LINE = "----------------------------------------------------------------------";
 
@@ -80,6 +138,26 @@ public class Constants {
     public static final String INVALID_INPUT_FORBIDDEN_SUBSTRING =
             "These substrings are not allowed in the input command:\n"
             + "~   `   %   #   @   !";
+    public static final String INVALID_INPUT_INVALID_FORMAT =
+            "Please specify the format to convert the save file to: text or binary.";
+    public static final String INVALID_INPUT_INVALID_IMPORT_FILE =
+            "Failed to read the CSV file, please check that the path is correct.";
+    public static final String INVALID_INPUT_INVALID_EXPORT_FILE =
+            "Failed to write the export file, please check that the path is correct.";
+    public static final String INVALID_INPUT_INVALID_EXPORT_FORMAT =
+            "Please specify the format to export to: csv or jsonl.";
+    public static final String INVALID_INPUT_INVALID_LIMIT = "Please provide a positive number for the limit.";
+    public static final String INVALID_INPUT_INVALID_RECORD_COUNT =
+            "Please provide a positive number of records to retrieve.";
+    public static final String INVALID_INPUT_INVALID_RETRIEVE_ARGUMENTS =
+            "Please retrieve the records of either a single date, a range of dates (/from and /to)\n"
+                    + "or the most recent visits (/last).";
+    public static final String INVALID_INPUT_INVALID_FIND_ARGUMENTS =
+            "Please provide exactly one detail to find, either on its own or after one of /s, /d or /p.";
+    public static final String INVALID_INPUT_INVALID_SEARCH_QUERY =
+            "Please provide at least one word to search for, e.g. search para";
+    public static final String INVALID_INPUT_INVALID_IMPORT_ROW =
+            "A row should have at most 5 columns: IC number, date, symptom, diagnosis, prescription.";
 
     public static final String DATA_NO_RECORD_FOUND = "No records found for the specified date.";
     public static final String DATA_NO_PATIENT_LOADED =
@@ -87,12 +165,23 @@ public class Constants {
     public static final String DATA_EMPTY_DESCRIPTION =
             "Please provide more details about the patient's visit.\n"
                     + "(At least one symptom, diagnosis or prescription must be specified.)";
+    public static final String DATA_READ_ONLY =
+            "The save file has been opened in read-only mode, please restart without --read-only to make changes.";
     public static final String DATA_PATIENT_NOT_FOUND = "The patient with this IC number does not exist.";
+    public static final String DATA_ID_NOT_STORABLE =
+            "This ID cannot be kept in the off-heap patient list, please restart without --off-heap to add it.";
 
     public static final String STORAGE = "Something wrong happened when trying to save/load data";
     public static final String STORAGE_FILE_CREATION_FAIL = "Failed to create a save file.";
     public static final String STORAGE_FILE_WRITE_FAIL = "Failed to write content to the save file.";
+    public static final String STORAGE_FILE_READ_FAIL = "Failed to read content from the save file.";
+    public static final String STORAGE_FILE_CORRUPTED = "The save file is corrupted and cannot be read.";
+    public static final String STORAGE_NOT_A_DIRECTORY =
+            "The path given for the sharded save folder is a file, please give the path of a folder instead.";
     public static final String STORAGE_FILE_NOT_FOUND = "Save file does not exist so we use an empty patient list!";
+    public static final String STORAGE_LOAD_ABORTED =
+            "Patient Manager has stopped so that the save file is not overwritten. It has not been changed.\n"
+            + "Please repair the save file or move it away, then start Patient Manager again.";
 
     public static final String UNKNOWN = "We have encountered an unknown error";
 
@@ -124,13 +213,18 @@ public class Constants {
     public static final String SYMPTOM_KEY = "s";
     public static final String DIAGNOSIS_KEY = "d";
     public static final String PRESCRIPTION_KEY = "p";
+    public static final String FORMAT_KEY = "format";
+    public static final String START_KEY = "start";
+    public static final String END_KEY = "end";
+    public static final String FROM_KEY = "from";
+    public static final String TO_KEY = "to";
+    public static final String LIMIT_KEY = "limit";
+    public static final String AFTER_KEY = "after";
+    public static final String LAST_KEY = "last";
 
     // Date format
     public static final String DATE_PATTERN = "dd/MM/uuuu";
 
-    // Class path for command classes
-    public static final String COMMAND_CLASS_PREFIX = "seedu.duke.command.";
-
     // Delimiters for storage class
     public static final String ID_DELIMITER = "~~";
     public static final String DATE_DELIMITER = "``";
@@ -139,6 +233,36 @@ public class Constants {
     public static final String PRESCRIPTION_DELIMITER = "@@";
     public static final String RECORDS_DELIMITER = "!R!";
     public static final String DETAILS_DELIMITER = "!D!";
+    public static final String GENERATION_HEADER = "!G!";
 
     public static final String STORAGE_DEFAULT_PATH = "./pm.save";
+    // This is kept apart from STORAGE_DEFAULT_PATH, so that an existing save file is never taken as the folder
+    public static final String STORAGE_DEFAULT_SHARD_DIRECTORY = "./pm.shards";
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String INDEX_FILE_SUFFIX = ".idx";
+    public static final String SHARD_FILE_SUFFIX = ".save";
+    public static final String SHARDED_OPTION = "--sharded";
+    public static final String READ_ONLY_OPTION = "--read-only";
+    public static final String OFF_HEAP_OPTION = "--off-heap";
+    public static final String OFF_HEAP_INVALID_ID_MESSAGE =
+            "The save file has IDs which are not NRIC/FIN numbers, so the patients are kept on the heap.";
+    public static final String OUTPUT_OPTION = "--output";
+    public static final String OUTPUT_FILE_FAIL_MESSAGE = "Failed to open the output file: ";
+    public static final String BATCH_OPTION = "--batch";
+    public static final String FLUSH_EVERY_OPTION = "--flush-every";
+    public static final String INVALID_FLUSH_EVERY_MESSAGE = "The number of commands between saves must be 0 or a "
+            + "positive number, changes will be saved at the end of the batch.";
+    public static final String BATCH_DURABILITY_IGNORED_MESSAGE = "--durability cannot be used with --batch, changes "
+            + "will be saved at the end of the batch, or as often as given by --flush-every.";
+    public static final String BATCH_FILE_READ_FAIL_MESSAGE = "Failed to read the batch file: ";
+    public static final String BATCH_LINE_ERROR_MESSAGE = "Error on line %d of the batch file.";
+    public static final String BATCH_SUMMARY_MESSAGE = "Batch finished: %d commands run, %d errors.";
+    public static final String DURABILITY_OPTION = "--durability";
+    public static final String DURABILITY_SYNC = "sync";
+    public static final String DURABILITY_ON_EXIT = "on-exit";
+    public static final String INVALID_DURABILITY_MESSAGE = "Durability must be \"" + DURABILITY_SYNC + "\", \""
+            + DURABILITY_ON_EXIT + "\" or a number of milliseconds, changes will be saved after every command.";
+    // Number of journal entries after which the journal is folded back into a full snapshot
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
 }
@@ -0,0 +1,62 @@
+package seedu.duke;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This is an input stream which keeps track of the number of bytes read through it, so that the offset of
+ * each patient in the save file is known while reading.
+ */
+public class CountingInputStream extends FilterInputStream {
+    private long count;
+
+    /**
+     * This is the constructor of the CountingInputStream class.
+     *
+     * @param inputStream the stream to read from, mark and reset are not supported through this stream
+     */
+    public CountingInputStream(InputStream inputStream) {
+        super(inputStream);
+        this.count = 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        int bytesRead = in.read(bytes, offset, length);
+        if (bytesRead > 0) {
+            count += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Gets the number of bytes read so far.
+     *
+     * @return number of bytes read
+     */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.duke;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * This is an output stream which keeps track of the number of bytes written through it, so that the offset of
+ * each patient in the save file is known while writing.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    /**
+     * This is the constructor of the CountingOutputStream class.
+     *
+     * @param outputStream the stream to write to
+     */
+    public CountingOutputStream(OutputStream outputStream) {
+        super(outputStream);
+        this.count = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+        count += length;
+    }
+
+    /**
+     * Gets the number of bytes written so far.
+     *
+     * @return number of bytes written
+     */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.duke;
+
+import seedu.duke.exception.BaseException;
+import seedu.duke.exception.DataException;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class reads patients and their visits from a CSV file. Each row has the columns
+ * NRIC, date, symptom, diagnosis and prescription. A row with only the NRIC adds the patient without any visit.
+ * The first row is skipped if it is a header, i.e. its first column is "nric".
+ *
+ * <p>The file is read in chunks of rows, and each chunk is validated on its own thread while the next chunk is being
+ * read. The patients of the chunks are then merged in the order of the rows, so the result is the same as adding the
+ * rows one by one.</p>
+ */
+public class CsvImporter {
+    public static final String HEADER = "nric";
+    private static final int CHUNK_SIZE = 4096;
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * These are the records read so far, by patient ID. Patients are only created once all rows have been read, as
+     * their records are never in the save file.
+     */
+    private final SortedMap<String, RecordMap> records;
+    private final SortedMap<String, Patient> patients;
+    private final List<String> errors;
+    private int rowCount;
+
+    /**
+     * This is the constructor of the CsvImporter class.
+     */
+    public CsvImporter() {
+        this.records = new TreeMap<>();
+        this.patients = new TreeMap<>();
+        this.errors = new ArrayList<>();
+        this.rowCount = 0;
+    }
+
+    /**
+     * Reads and validates all rows of a CSV file. Invalid rows are skipped and reported through getErrors().
+     *
+     * @param filePath path to the CSV file
+     * @throws InvalidInputException when the file cannot be read
+     */
+    public void read(String filePath) throws InvalidInputException {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<Chunk>> results = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            List<String> lines = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && isHeader(line)) {
+                    continue;
+                }
+                lines.add(line);
+                if (lines.size() == CHUNK_SIZE) {
+                    results.add(submit(executor, lines, lineNumber - lines.size() + 1));
+                    lines = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!lines.isEmpty()) {
+                results.add(submit(executor, lines, lineNumber - lines.size() + 1));
+            }
+            for (Future<Chunk> result : results) {
+                Chunk chunk = result.get();
+                merge(chunk.records);
+                errors.addAll(chunk.errors);
+                rowCount += chunk.rowCount;
+            }
+            for (Map.Entry<String, RecordMap> entry : records.entrySet()) {
+                patients.put(entry.getKey(), new Patient(entry.getKey(), entry.getValue()));
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_IMPORT_FILE, e);
+        } catch (ExecutionException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_IMPORT_FILE, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_IMPORT_FILE, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Future<Chunk> submit(ExecutorService executor, List<String> lines, int firstLineNumber) {
+        return executor.submit(() -> {
+            Chunk chunk = new Chunk();
+            for (int i = 0; i < lines.size(); i++) {
+                chunk.addRow(lines.get(i), firstLineNumber + i);
+            }
+            return chunk;
+        });
+    }
+
+    private static boolean isHeader(String line) {
+        List<String> columns = splitRow(line);
+        return columns.get(0).trim().equalsIgnoreCase(HEADER);
+    }
+
+    /**
+     * Merges records read from a later part of the file into the records read so far.
+     */
+    private void merge(SortedMap<String, RecordMap> newRecords) {
+        for (Map.Entry<String, RecordMap> entry : newRecords.entrySet()) {
+            RecordMap patientRecords = records.putIfAbsent(entry.getKey(), entry.getValue());
+            if (patientRecords != null) {
+                mergeRecords(patientRecords, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Adds all records of a patient into the records of another patient with the same ID. Details which the other
+     * patient already has are not added again.
+     *
+     * @param patient    the patient to add the records to
+     * @param newPatient the patient whose records are to be added
+     * @throws StorageException when the records of the patient cannot be read from the save file
+     */
+    public static void mergeRecords(Patient patient, Patient newPatient) throws StorageException {
+        mergeRecords(patient.getRecords(), newPatient.getRecords());
+    }
+
+    private static void mergeRecords(RecordMap records, RecordMap newRecords) {
+        for (Map.Entry<LocalDate, Record> entry : newRecords.entrySet()) {
+            Record record = records.get(entry.getKey());
+            if (record == null) {
+                records.put(entry.getKey(), entry.getValue());
+            } else {
+                record.addDetails(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Splits a row into its columns. Columns may be quoted with double quotes, in which case they can contain commas,
+     * and a double quote inside is written as two double quotes.
+     *
+     * @param line the row to be split
+     * @return the columns, unquoted
+     */
+    public static List<String> splitRow(String line) {
+        List<String> columns = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder column = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    column.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    public SortedMap<String, Patient> getPatients() {
+        return patients;
+    }
+
+    /**
+     * Gets the errors of the rows which were skipped, in the order of the rows.
+     *
+     * @return a message for each invalid row, starting with its line number
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the number of rows read, excluding blank rows and the header.
+     *
+     * @return the number of rows, including those which are invalid
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * This holds the result of validating a chunk of rows. It is only used by the thread validating the chunk until
+     * it is done.
+     */
+    private static class Chunk {
+        private final SortedMap<String, RecordMap> records = new TreeMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private int rowCount = 0;
+
+        private void addRow(String line, int lineNumber) {
+            if (line.isBlank()) {
+                return;
+            }
+            rowCount++;
+            try {
+                List<String> columns = splitRow(line);
+                if (columns.size() > COLUMN_COUNT) {
+                    throw new InvalidInputException(InvalidInputException.Type.INVALID_IMPORT_ROW);
+                }
+                for (String column : columns) {
+                    if (Parser.containsForbiddenSubstring(column)) {
+                        throw new InvalidInputException(InvalidInputException.Type.FORBIDDEN_SUBSTRING);
+                    }
+                }
+                String id = columns.get(0).trim().toUpperCase();
+                Common.checkID(id);
+                String dateString = getColumn(columns, 1);
+                if (dateString == null) {
+                    records.computeIfAbsent(id, k -> new RecordMap());
+                    return;
+                }
+                LocalDate date = Common.parseDate(dateString);
+                String symptom = getColumn(columns, 2);
+                String diagnosis = getColumn(columns, 3);
+                String prescription = getColumn(columns, 4);
+                if (symptom == null && diagnosis == null && prescription == null) {
+                    throw new DataException(DataException.Type.EMPTY_DESCRIPTION);
+                }
+                records.computeIfAbsent(id, k -> new RecordMap()).computeIfAbsent(date, d -> new Record())
+                        .addDetails(symptom, diagnosis, prescription);
+            } catch (BaseException e) {
+                errors.add(String.format(Constants.IMPORT_LINE_ERROR_MESSAGE, lineNumber,
+                        e.getMessage().replace('\n', ' ')));
+            }
+        }
+
+        /**
+         * Gets a column with the surrounding whitespaces removed, or null if it is missing or empty.
+         */
+        private static String getColumn(List<String> columns, int index) {
+            if (index >= columns.size()) {
+                return null;
+            }
+            String column = columns.get(index).trim();
+            return column.isEmpty() ? null : column;
+        }
+    }
+}
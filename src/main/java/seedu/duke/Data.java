@@ -1,6 +1,8 @@
 package seedu.duke;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -8,15 +10,47 @@ import seedu.duke.exception.DataException;
 import seedu.duke.exception.InvalidInputException;
 import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordIndex;
+import seedu.duke.model.RecordMap;
 
 /**
  * This class (instance) contains all data of the running application. This
  * includes patient list and miscellaneous config.
  */
 public class Data {
+    /**
+     * This decides when the changes are written to the save file.
+     * SYNC writes them before each command returns, INTERVAL writes them on a background thread at most
+     * flushInterval milliseconds later, and ON_EXIT only writes them when the program exits.
+     */
+    public enum Durability {
+        SYNC,
+        INTERVAL,
+        ON_EXIT
+    }
+
     private Storage storage;
     private SortedMap<String, Patient> patients;
 
+    /**
+     * These are the changes made to the patient list since the last save. They are passed to the storage instance
+     * so that only the changes need to be written.
+     */
+    private ArrayList<JournalEntry> unsavedChanges;
+    private Durability durability;
+    private Flusher flusher;
+    /**
+     * This is the exception thrown by the last background save, if it failed. It is rethrown on the next save, so
+     * that the failure is reported to the user.
+     */
+    private StorageException flushException;
+    /**
+     * This is the index of the details of all records. It is only built when it is first needed, as building it
+     * reads the records of every patient, and is then kept up to date with every change.
+     */
+    private RecordIndex recordIndex;
+
     /**
      * This is the patient that is currently being selected. Command sub-classes can read/write
      * this attribute directly.
@@ -53,9 +87,46 @@ public class Data {
     public Data(Storage storage, SortedMap<String, Patient> patients) {
         this.storage = storage;
         this.patients = patients;
+        unsavedChanges = new ArrayList<>();
+        durability = Durability.SYNC;
+        flusher = null;
+        flushException = null;
+        recordIndex = null;
         currentPatient = null;
     }
 
+    /**
+     * Sets when the changes are written to the save file. All methods of this class are synchronized, as the
+     * background thread may be saving while the next command is being executed.
+     *
+     * @param durability    when the changes are written
+     * @param flushInterval the longest time in milliseconds that a change is left unsaved, only used by INTERVAL
+     */
+    public void setDurability(Durability durability, long flushInterval) {
+        Flusher oldFlusher;
+        synchronized (this) {
+            oldFlusher = flusher;
+            flusher = null;
+        }
+        // The old flusher may be waiting for this instance, so it is stopped without holding the lock
+        if (oldFlusher != null) {
+            oldFlusher.stop();
+        }
+        synchronized (this) {
+            this.durability = durability;
+            if (durability == Durability.INTERVAL) {
+                flusher = new Flusher(this, flushInterval);
+                if (!unsavedChanges.isEmpty()) {
+                    flusher.requestFlush();
+                }
+            }
+        }
+    }
+
+    public synchronized Durability getDurability() {
+        return durability;
+    }
+
     /**
      * Helper methods to check if there is a patient, or if a patient has been previously added to the list.
      * If they fail, they will throw a DataException with the corresponding error message.
@@ -66,6 +137,32 @@ public class Data {
         }
     }
 
+    /**
+     * Checks that changes can be made to the data, i.e. the save file is not opened in read-only mode.
+     * Commands which make changes should call this before making any change.
+     *
+     * @throws DataException if the save file is opened in read-only mode
+     */
+    public void checkWritable() throws DataException {
+        if (storage != null && storage.isReadOnly()) {
+            throw new DataException(DataException.Type.READ_ONLY);
+        }
+    }
+
+    /**
+     * Checks that a patient with the given ID can be added to the patient list. Patient lists kept off the heap can
+     * only store IDs in the form of an NRIC/FIN number. Commands which add patients should call this before making
+     * any change.
+     *
+     * @param id the ID number of the patient to be added
+     * @throws DataException if the patient list cannot store the ID
+     */
+    public synchronized void checkStorable(String id) throws DataException {
+        if (patients instanceof OffHeapPatientMap && !OffHeapPatientMap.canStore(id)) {
+            throw new DataException(DataException.Type.ID_NOT_STORABLE);
+        }
+    }
+
     private void checkPatientExists(String id) throws DataException {
         if (!patients.containsKey(id)) {
             throw new DataException(DataException.Type.PATIENT_NOT_FOUND);
@@ -77,7 +174,7 @@ public class Data {
      *
      * @return the patient hashmap
      */
-    public SortedMap<String, Patient> getPatients() {
+    public synchronized SortedMap<String, Patient> getPatients() {
         return patients;
     }
 
@@ -87,7 +184,7 @@ public class Data {
      * @param id unique identifier of the patient to be retrieved
      * @return the patient instance associated with this ID if found, otherwise null is returned
      */
-    public Patient getPatient(String id) {
+    public synchronized Patient getPatient(String id) {
         return patients.get(id);
     }
 
@@ -95,9 +192,21 @@ public class Data {
      * Add or update a new patient to the hashmap of this database.
      *
      * @param patient the patient to be added/updated
+     * @throws StorageException when the records of the patients cannot be read from the save file
      */
-    public void setPatient(Patient patient) {
-        patients.put(patient.getID(), patient);
+    public synchronized void setPatient(Patient patient) throws StorageException {
+        if (recordIndex != null) {
+            // The records are read before anything is changed, in case they cannot be read
+            Patient oldPatient = patients.get(patient.getID());
+            RecordMap oldRecords = oldPatient == null ? null : oldPatient.readRecords();
+            RecordMap records = patient.readRecords();
+            if (oldRecords != null) {
+                recordIndex.removeRecords(oldPatient.getID(), oldRecords);
+            }
+            recordIndex.addRecords(patient.getID(), records);
+        }
+        storePatient(patient);
+        recordChange(JournalEntry.putPatient(patient));
     }
 
     /**
@@ -105,12 +214,13 @@ public class Data {
      *
      * @param id the ID number of the patient to be added
      */
-    public void addPatient(String id) throws InvalidInputException {
+    public synchronized void addPatient(String id) throws InvalidInputException {
         if (patients.containsKey(id)) {
             throw new InvalidInputException(InvalidInputException.Type.PATIENT_EXISTED);
         }
         Patient patient = new Patient(id);
-        patients.put(id, patient);
+        storePatient(patient);
+        recordChange(JournalEntry.putPatient(patient));
     }
 
     /**
@@ -120,7 +230,7 @@ public class Data {
      * @param id unique identifier of the patient to be loaded
      * @return true if a patient is successfully loaded, otherwise false
      */
-    public Boolean loadCurrentPatient(String id) {
+    public synchronized Boolean loadCurrentPatient(String id) {
         Patient newCurrentPatient = getPatient(id);
         if (newCurrentPatient == null) {
             return false;
@@ -133,21 +243,169 @@ public class Data {
      * This removes a patient from the hashmap of this database.
      *
      * @param id unique identifier of the patient to be loaded
-     * @throws DataException if the patient has not been added to the database previously
+     * @throws DataException    if the patient has not been added to the database previously
+     * @throws StorageException when the records of the patient cannot be read from the save file
      */
-    public void deletePatient(String id) throws DataException {
+    public synchronized void deletePatient(String id) throws DataException, StorageException {
         checkPatientExists(id);
+        if (recordIndex != null) {
+            recordIndex.removeRecords(id, patients.get(id).readRecords());
+        }
         patients.remove(id);
+        recordChange(JournalEntry.deletePatient(id));
     }
 
     /**
      * This saves current patient list into the file using the storage instance.
+     * Depending on the durability setting, the changes are either written right away, or left to the background
+     * thread or to the end of the program. In the latter cases, this returns without waiting for the disk.
+     *
+     * @throws StorageException when unusual events happen during file saving, or the last background save failed
+     */
+    public synchronized void saveFile() throws StorageException {
+        throwFlushException();
+        switch (durability) {
+        case INTERVAL:
+            if (!unsavedChanges.isEmpty()) {
+                flusher.requestFlush();
+            }
+            break;
+        case ON_EXIT:
+            break;
+        default:
+            writeChanges();
+        }
+    }
+
+    /**
+     * This writes all changes which have not been saved yet, and waits until they are written.
+     * It should be called before the program exits.
+     *
+     * @throws StorageException when unusual events happen during file saving, or the last background save failed
+     */
+    public synchronized void flush() throws StorageException {
+        throwFlushException();
+        if (!unsavedChanges.isEmpty()) {
+            writeChanges();
+        }
+    }
+
+    /**
+     * This is called by the background thread to write the changes. Any failure is kept and reported by the next
+     * call to saveFile() or flush().
+     */
+    synchronized void flushInBackground() {
+        try {
+            flush();
+        } catch (StorageException e) {
+            flushException = e;
+        }
+    }
+
+    private void throwFlushException() throws StorageException {
+        if (flushException != null) {
+            StorageException e = flushException;
+            flushException = null;
+            throw e;
+        }
+    }
+
+    private void writeChanges() throws StorageException {
+        // If storage is null, we just silently ignore it (for testing)
+        if (storage != null) {
+            storage.save(patients, unsavedChanges);
+        }
+        unsavedChanges.clear();
+    }
+
+    /**
+     * This writes the full patient list into the file in the specified format. Later saves will use the same format.
+     *
+     * @param format the format which the file should be written in
+     * @throws StorageException when unusual events happen during file saving
      */
-    public void saveFile() throws StorageException {
+    public synchronized void convertFile(Storage.Format format) throws StorageException {
         // If storage is null, we just silently ignore it (for testing)
         if (storage != null) {
+            storage.setFormat(format);
             storage.save(patients);
         }
+        unsavedChanges.clear();
+    }
+
+    /**
+     * This merges patients read from elsewhere (e.g. a CSV file) into the patient list in a single pass, then writes
+     * a full snapshot, instead of recording a change for every patient and record.
+     * Records of patients already in the list are merged with the existing records.
+     *
+     * @param newPatients the patients to be merged, sorted by ID
+     * @return the number of patients which were not in the list before
+     * @throws StorageException when unusual events happen during file saving, or the last background save failed
+     */
+    public synchronized int importPatients(SortedMap<String, Patient> newPatients) throws StorageException {
+        throwFlushException();
+        int addedCount = 0;
+        for (Patient newPatient : newPatients.values()) {
+            Patient patient = patients.get(newPatient.getID());
+            if (patient == null) {
+                storePatient(newPatient);
+                addedCount++;
+            } else {
+                CsvImporter.mergeRecords(patient, newPatient);
+                writeBack(patient);
+            }
+            if (recordIndex != null) {
+                // Details which are already in the index are not added again
+                recordIndex.addRecords(newPatient.getID(), newPatient.getRecords());
+            }
+        }
+        // If storage is null, we just silently ignore it (for testing)
+        if (storage != null) {
+            storage.save(patients);
+        }
+        unsavedChanges.clear();
+        return addedCount;
+    }
+
+    /**
+     * Stores the changes made to a patient's records in the patient list. Patient lists kept off the heap hand out
+     * copies of their patients, so the changes are only seen once the patient is put back. Other patient lists hold
+     * the patient itself, which already has the changes.
+     *
+     * @param patient the patient which has been changed
+     */
+    private void writeBack(Patient patient) {
+        // A patient which has been deleted since it was loaded is not added back
+        if (patients instanceof OffHeapPatientMap && patients.containsKey(patient.getID())) {
+            storePatient(patient);
+        }
+    }
+
+    /**
+     * Adds or replaces a patient in the patient list. Patient lists kept off the heap would decode the patient
+     * replaced just to return it, so they are given the patient without asking for the one replaced.
+     *
+     * @param patient the patient to be stored
+     */
+    private void storePatient(Patient patient) {
+        if (patients instanceof OffHeapPatientMap) {
+            assert OffHeapPatientMap.canStore(patient.getID()) : "The ID should have been checked by checkStorable()";
+            ((OffHeapPatientMap) patients).set(patient.getID(), patient);
+        } else {
+            patients.put(patient.getID(), patient);
+        }
+    }
+
+    /**
+     * Keeps track of a change made to the patient list, which will be written on the next save.
+     *
+     * @param change the change made to the patient list
+     */
+    private void recordChange(JournalEntry change) {
+        // Without a storage instance, the changes will never be written
+        if (storage != null) {
+            unsavedChanges.add(change);
+        }
     }
 
     /**
@@ -158,10 +416,11 @@ public class Data {
      * @param diagnosis    diagnosis made by the doctor
      * @param prescription prescription made by the doctor
      * @return a string containing a confirmation that the records were added to the patient
-     * @throws DataException if there is no loaded patient
+     * @throws DataException    if there is no loaded patient
+     * @throws StorageException when the records of the patient cannot be read from the save file
      */
-    public String addRecord(LocalDate date, String symptom, String diagnosis, String prescription)
-            throws DataException {
+    public synchronized String addRecord(LocalDate date, String symptom, String diagnosis, String prescription)
+            throws DataException, StorageException {
         checkLoadedPatient();
         boolean containsSymptom = symptom != null && !symptom.isEmpty();
         boolean containsDiagnosis = diagnosis != null && !diagnosis.isEmpty();
@@ -170,6 +429,13 @@ public class Data {
             throw new DataException(DataException.Type.EMPTY_DESCRIPTION);
         }
         String recentDetails = currentPatient.addRecord(date, symptom, diagnosis, prescription);
+        writeBack(currentPatient);
+        if (recordIndex != null) {
+            recordIndex.addDetail(RecordIndex.Field.SYMPTOM, symptom, currentPatient.getID(), date);
+            recordIndex.addDetail(RecordIndex.Field.DIAGNOSIS, diagnosis, currentPatient.getID(), date);
+            recordIndex.addDetail(RecordIndex.Field.PRESCRIPTION, prescription, currentPatient.getID(), date);
+        }
+        recordChange(JournalEntry.addDetails(currentPatient.getID(), date, symptom, diagnosis, prescription));
         return recentDetails;
     }
 
@@ -178,9 +444,10 @@ public class Data {
      *
      * @param date the date of the patient's consultation
      * @return a string containing the records of the patient's visit on the date
-     * @throws DataException if there is no loaded patient
+     * @throws DataException    if there is no loaded patient
+     * @throws StorageException when the records of the patient cannot be read from the save file
      */
-    public String getRecords(LocalDate date) throws DataException {
+    public synchronized String getRecords(LocalDate date) throws DataException, StorageException {
         checkLoadedPatient();
         String records = currentPatient.getRecord(date);
         return records;
@@ -191,24 +458,104 @@ public class Data {
      * the returned string will notify the user that there are no records.
      *
      * @return a string containing all the records of the patient
-     * @throws DataException if there is no loaded patient
+     * @throws DataException    if there is no loaded patient
+     * @throws StorageException when the records of the patient cannot be read from the save file
      */
-    public String getRecords() throws DataException {
+    public synchronized String getRecords() throws DataException, StorageException {
         checkLoadedPatient();
         String records = currentPatient.getRecord();
         return records;
     }
 
+    /**
+     * Retrieves the currently loaded patient's medical records within a range of dates.
+     *
+     * @param from the earliest date of the records, or null for no lower bound
+     * @param to   the latest date of the records, or null for no upper bound
+     * @return a string containing the records of the patient within the range
+     * @throws DataException    if there is no loaded patient
+     * @throws StorageException when the records of the patient cannot be read from the save file
+     */
+    public synchronized String getRecords(LocalDate from, LocalDate to) throws DataException, StorageException {
+        checkLoadedPatient();
+        return currentPatient.getRecord(from, to);
+    }
+
+    /**
+     * Retrieves the currently loaded patient's most recent medical records.
+     *
+     * @param count the number of records to be retrieved
+     * @return a string containing the records of the patient
+     * @throws DataException    if there is no loaded patient
+     * @throws StorageException when the records of the patient cannot be read from the save file
+     */
+    public synchronized String getLastRecords(int count) throws DataException, StorageException {
+        checkLoadedPatient();
+        return currentPatient.getLastRecords(count);
+    }
+
     /**
      * Deletes the patient's medical record for a specific date.
      *
      * @param date Appointment date of record to delete
-     * @throws DataException if there is no loaded patient, or the patient does not have any medical records for the
-     *                       specified date
+     * @throws DataException    if there is no loaded patient, or the patient does not have any medical records for
+     *                          the specified date
+     * @throws StorageException when the records of the patient cannot be read from the save file
      */
-    public void deleteRecord(LocalDate date) throws DataException {
+    public synchronized void deleteRecord(LocalDate date) throws DataException, StorageException {
         checkLoadedPatient();
+        Record record = currentPatient.getRecords().get(date);
         currentPatient.deleteRecord(date);
+        writeBack(currentPatient);
+        if (recordIndex != null) {
+            recordIndex.removeRecord(currentPatient.getID(), date, record);
+        }
+        recordChange(JournalEntry.deleteRecord(currentPatient.getID(), date));
+    }
+
+    /**
+     * Finds the visits of all patients with a symptom, diagnosis or prescription. The index of the details is
+     * built on the first search, and later searches only take time in proportion to the visits found.
+     *
+     * @param field  the field of the detail, or null to look in all fields
+     * @param detail the detail to be found, case and extra whitespaces are ignored
+     * @param from   the earliest date of the visits, or null for no lower bound
+     * @param to     the latest date of the visits, or null for no upper bound
+     * @return the visits found, from the most recent to the earliest
+     * @throws StorageException when the records of a patient cannot be read from the save file to build the index
+     */
+    public synchronized List<RecordIndex.Visit> findRecords(RecordIndex.Field field, String detail, LocalDate from,
+            LocalDate to) throws StorageException {
+        return getRecordIndex().find(field, detail, from, to);
+    }
+
+    /**
+     * Searches for the visits of all patients with details containing all words of a query. Each word matches any
+     * word starting with it, e.g. "para" matches "paracetamol".
+     *
+     * @param query the words to be found
+     * @param from  the earliest date of the visits, or null for no lower bound
+     * @param to    the latest date of the visits, or null for no upper bound
+     * @param limit the maximum number of visits to be found
+     * @return the visits found, from the most recent to the earliest
+     * @throws StorageException when the records of a patient cannot be read from the save file to build the index
+     */
+    public synchronized List<RecordIndex.Visit> searchRecords(String query, LocalDate from, LocalDate to,
+            int limit) throws StorageException {
+        return getRecordIndex().search(query, from, to, limit);
+    }
+
+    private RecordIndex getRecordIndex() throws StorageException {
+        if (recordIndex == null) {
+            // The index is only kept once it is complete, so a failed build is started over on the next search
+            RecordIndex newIndex = new RecordIndex();
+            for (Patient patient : patients.values()) {
+                // Records which have not been loaded are read for the index only, and are not kept in memory
+                newIndex.addRecords(patient.getID(), patient.readRecords());
+            }
+            recordIndex = newIndex;
+        }
+        return recordIndex;
     }
 
     /**
@@ -218,7 +565,7 @@ public class Data {
      * @return a string containing a confirmation message
      * @throws DataException if the patient with the specified ID number does not exist
      */
-    public String loadPatient(String id) throws DataException {
+    public synchronized String loadPatient(String id) throws DataException {
         checkPatientExists(id);
         currentPatient = patients.get(id);
         return "Patient " + currentPatient.getID() + "\'s data has been found and loaded.";
@@ -231,7 +578,7 @@ public class Data {
      * @return a string containing the current patient's ID, or a message to inform that there is no loaded patient if
      * there is no loaded patient
      */
-    public String getCurrentPatientDetails() {
+    public synchronized String getCurrentPatientDetails() {
         if (currentPatient == null) {
             return "There is no patient being loaded now.";
         }
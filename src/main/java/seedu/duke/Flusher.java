@@ -0,0 +1,87 @@
+package seedu.duke;
+
+/**
+ * This class writes the unsaved changes of a data instance on a background thread, so that commands do not have to
+ * wait for the disk. Changes made within flushInterval milliseconds of the first unsaved change are written
+ * together in a single save.
+ */
+public class Flusher implements Runnable {
+    private final Data data;
+    private final long flushInterval;
+    private final Thread thread;
+    private boolean isFlushRequested;
+    private boolean isStopped;
+
+    /**
+     * This is the constructor of the Flusher class. The background thread is started right away.
+     *
+     * @param data          the data instance whose changes are to be written
+     * @param flushInterval the longest time in milliseconds that a change is left unsaved
+     */
+    public Flusher(Data data, long flushInterval) {
+        this.data = data;
+        this.flushInterval = flushInterval;
+        this.isFlushRequested = false;
+        this.isStopped = false;
+        thread = new Thread(this, "flusher");
+        // The changes left are written by Data.flush() on exit, so this thread should not keep the program running
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Schedules a save. This returns immediately, and does nothing if a save has already been scheduled.
+     */
+    public synchronized void requestFlush() {
+        isFlushRequested = true;
+        notifyAll();
+    }
+
+    /**
+     * Stops the background thread, after the save in progress (if any) is done.
+     * The changes which have not been written are left to the caller.
+     */
+    public void stop() {
+        synchronized (this) {
+            isStopped = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (waitForRequest()) {
+            synchronized (this) {
+                isFlushRequested = false;
+            }
+            data.flushInBackground();
+        }
+    }
+
+    /**
+     * Waits until a save is requested, then waits for flushInterval so that later changes are written together.
+     *
+     * @return true if a save should be done, false if the thread has been stopped
+     */
+    private synchronized boolean waitForRequest() {
+        try {
+            while (!isFlushRequested && !isStopped) {
+                wait();
+            }
+            long deadline = System.currentTimeMillis() + flushInterval;
+            long remaining = flushInterval;
+            while (!isStopped && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            return false;
+        }
+        return !isStopped;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.RecordMap;
+import seedu.duke.model.RecordLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class reads a single patient's records from the save file, using the location stored in the patient index.
+ */
+public class IndexedRecordLoader implements RecordLoader {
+    private final Storage storage;
+    private Storage.Format format;
+    private long offset;
+    private int length;
+
+    /**
+     * This is the constructor of the IndexedRecordLoader class.
+     *
+     * @param storage the storage instance which owns the save file
+     * @param format  the format of the save file
+     * @param offset  position of the first byte of the patient's records in the save file
+     * @param length  number of bytes taken by the patient's records
+     */
+    public IndexedRecordLoader(Storage storage, Storage.Format format, long offset, int length) {
+        this.storage = storage;
+        this.format = format;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public RecordMap loadRecords() throws StorageException {
+        try {
+            byte[] bytes = readBytes();
+            if (format == Storage.Format.BINARY) {
+                return BinarySaveFile.readRecords(
+                        new DataInputStream(new ByteArrayInputStream(bytes)), storage.getTermCodes());
+            }
+            // The records of a patient are short, so they are decoded at once instead of through large buffers
+            SaveFileReader reader = new SaveFileReader(
+                    new StringReader(new String(bytes, StandardCharsets.UTF_8)), bytes.length);
+            return reader.readRecords();
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e);
+        }
+    }
+
+    /**
+     * Reads the patient's records from the save file without decoding them.
+     *
+     * @return the bytes of the patient's records, in the format of the save file
+     * @throws IOException when the save file cannot be read
+     */
+    public byte[] readBytes() throws IOException {
+        return storage.readBytes(offset, length);
+    }
+
+    /**
+     * Points this loader to a new location, after the records have been copied into a new save file.
+     *
+     * @param format the format of the new save file
+     * @param offset position of the first byte of the patient's records in the new save file
+     * @param length number of bytes taken by the patient's records
+     */
+    public void relocate(Storage.Format format, long offset, int length) {
+        this.format = format;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Storage.Format getFormat() {
+        return format;
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * This class handles the append-only journal kept next to the save file. Instead of rewriting the whole save
+ * file after every change, each change is appended to the journal as a small entry. The journal is replayed on top
+ * of the save file when loading, and is cleared whenever a full snapshot is written.
+ *
+ * <p>The first line of the journal holds the generation number of the save file it applies to. Each following line
+ * is a type code, followed by ID_DELIMITER and a line in the same format as the save file, which only contains the
+ * records touched by that change.</p>
+ */
+public class Journal {
+    private final Storage storage;
+    private final String filePath;
+    private int entryCount;
+    private long generation;
+
+    /**
+     * This is the constructor of the Journal class.
+     *
+     * @param storage  the storage instance this journal belongs to, used for converting records
+     * @param filePath the path to the journal file
+     */
+    public Journal(Storage storage, String filePath) {
+        this.storage = storage;
+        this.filePath = filePath;
+        this.entryCount = 0;
+        this.generation = 0;
+    }
+
+    /**
+     * Appends a list of entries to the end of the journal file. The entries are forced to the disk before
+     * this method returns.
+     *
+     * @param entries the entries to be appended
+     * @throws StorageException when unusual events happen during file writing
+     */
+    public void append(List<JournalEntry> entries) throws StorageException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        boolean isNewJournal = !new File(filePath).exists();
+        try (FileOutputStream outputStream = new FileOutputStream(filePath, true)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (isNewJournal) {
+                writer.write(Constants.GENERATION_HEADER + generation + "\n");
+            }
+            for (JournalEntry entry : entries) {
+                writer.write(convertEntryToString(entry));
+                writer.write("\n");
+            }
+            writer.flush();
+            outputStream.getChannel().force(false);
+        } catch (FileNotFoundException e) {
+            throw new StorageException(StorageException.Type.FILE_CREATION_FAIL, e);
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_WRITE_FAIL, e);
+        }
+        entryCount += entries.size();
+    }
+
+    /**
+     * Replays all entries in the journal file on top of the patient list loaded from the save file.
+     * If the last entry was only partially written (e.g. the program was killed halfway), it is ignored, and cut
+     * off from the journal file so that entries appended later do not follow it.
+     * If the journal belongs to an older generation of the save file, its entries have already been folded into
+     * the save file, so the journal is discarded instead, unless the storage is in read-only mode.
+     *
+     * @param data       the patient list loaded from the save file
+     * @param generation the generation number of the save file
+     * @throws StorageException when the records of a patient changed by an entry cannot be read from the save file
+     */
+    public void replay(SortedMap<String, Patient> data, long generation) throws StorageException {
+        this.generation = generation;
+        entryCount = 0;
+        boolean isStale = false;
+        boolean isFound = true;
+        List<JournalEntry.Type> types = new ArrayList<>();
+        List<Patient> entryPatients = new ArrayList<>();
+        try (SaveFileReader reader = new SaveFileReader(
+                new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8))) {
+            isStale = reader.readGeneration() != generation;
+            while (!isStale && reader.hasNext()) {
+                JournalEntry.Type type = JournalEntry.Type.fromCode(reader.readTypeCode());
+                Patient entryPatient = reader.readPatient();
+                if (type == null) {
+                    break;
+                }
+                types.add(type);
+                entryPatients.add(entryPatient);
+            }
+        } catch (FileNotFoundException e) {
+            // The journal does not exist, there is nothing to replay
+            isFound = false;
+        } catch (IOException | StorageException e) {
+            // A truncated entry at the end of the journal, everything before it is applied
+        }
+        int completeCount = types.size();
+        if (isFound && !isStale && !storage.isReadOnly()) {
+            completeCount = truncate(completeCount);
+        }
+        // The entries are applied after reading them, so that a failure to read the records of a patient in the
+        // save file is not mistaken for a truncated entry
+        for (int i = 0; i < completeCount; i++) {
+            applyEntry(data, types.get(i), entryPatients.get(i));
+            entryCount++;
+        }
+        if (isStale && !storage.isReadOnly()) {
+            clear(generation);
+        }
+    }
+
+    /**
+     * Cuts the journal file right after the line break which ends the header and the given number of entries.
+     * Otherwise, the entries appended later would follow a partial entry, and would be ignored by the next replay
+     * together with it.
+     *
+     * @param entryCount the number of entries read from the journal
+     * @return the number of entries kept, which is smaller if the last entry read was not followed by a line break
+     * @throws StorageException when the journal file cannot be cut
+     */
+    private int truncate(int entryCount) throws StorageException {
+        int lineCount = 0;
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            InputStream input = new BufferedInputStream(Channels.newInputStream(channel));
+            long offset = 0;
+            long validLength = 0;
+            int b;
+            while (lineCount <= entryCount && (b = input.read()) != -1) {
+                offset++;
+                if (b == '\n') {
+                    lineCount++;
+                    validLength = offset;
+                }
+            }
+            if (validLength < channel.size()) {
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_WRITE_FAIL, e);
+        }
+        if (lineCount == 0) {
+            // Not even the header is complete, so the journal is started again by the next append
+            new File(filePath).delete();
+            return 0;
+        }
+        return Math.min(entryCount, lineCount - 1);
+    }
+
+    private void applyEntry(SortedMap<String, Patient> data, JournalEntry.Type type, Patient entryPatient)
+            throws StorageException {
+        String id = entryPatient.getID();
+        Patient patient = data.get(id);
+        switch (type) {
+        case PUT_PATIENT:
+            data.put(id, entryPatient);
+            break;
+        case DELETE_PATIENT:
+            data.remove(id);
+            break;
+        case ADD_DETAILS:
+            if (patient != null) {
+                for (Map.Entry<LocalDate, Record> record : entryPatient.getRecords().entrySet()) {
+                    Record existingRecord = patient.getRecords().putIfAbsent(record.getKey(), record.getValue());
+                    if (existingRecord != null) {
+                        existingRecord.addDetails(record.getValue());
+                    }
+                }
+            }
+            break;
+        case DELETE_RECORD:
+            if (patient != null) {
+                patient.getRecords().keySet().removeAll(entryPatient.getRecords().keySet());
+            }
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Removes all entries from the journal. This should be called after a full snapshot has been written.
+     *
+     * @param generation the generation number of the snapshot written
+     */
+    public void clear(long generation) {
+        new File(filePath).delete();
+        this.generation = generation;
+        entryCount = 0;
+    }
+
+    /**
+     * Gets the number of entries in the journal that have not been folded into the save file.
+     *
+     * @return number of entries in the journal
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    private String convertEntryToString(JournalEntry entry) throws StorageException {
+        Patient patient;
+        switch (entry.getType()) {
+        case PUT_PATIENT:
+            patient = entry.getPatient();
+            break;
+        case ADD_DETAILS:
+            patient = new Patient(entry.getID());
+            patient.addRecord(entry.getDate(), entry.getSymptom(), entry.getDiagnosis(), entry.getPrescription());
+            break;
+        case DELETE_RECORD:
+            patient = new Patient(entry.getID());
+            patient.getRecords().put(entry.getDate(), new Record());
+            break;
+        default:
+            patient = new Patient(entry.getID());
+        }
+        return entry.getType().code + Constants.ID_DELIMITER + storage.convertPatientToString(patient);
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.duke;
+
+import java.time.LocalDate;
+
+import seedu.duke.model.Patient;
+
+/**
+ * Each instance of this class represents a single change made to the patient list, which has not been
+ * written to the save file yet. Entries are appended to the journal by the storage instance.
+ */
+public class JournalEntry {
+    public enum Type {
+        PUT_PATIENT("P"),
+        DELETE_PATIENT("D"),
+        ADD_DETAILS("R"),
+        DELETE_RECORD("X");
+
+        public final String code;
+
+        private Type(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Finds the type of entry associated with a code written in the journal file.
+         *
+         * @param code the code read from the journal file
+         * @return the type of entry, or null if the code is not recognised
+         */
+        public static Type fromCode(String code) {
+            for (Type type : values()) {
+                if (type.code.equals(code)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Type type;
+    private final String id;
+    private final Patient patient;
+    private final LocalDate date;
+    private final String symptom;
+    private final String diagnosis;
+    private final String prescription;
+
+    private JournalEntry(Type type, String id, Patient patient, LocalDate date,
+            String symptom, String diagnosis, String prescription) {
+        this.type = type;
+        this.id = id;
+        this.patient = patient;
+        this.date = date;
+        this.symptom = symptom;
+        this.diagnosis = diagnosis;
+        this.prescription = prescription;
+    }
+
+    /**
+     * Creates an entry for a patient being added or replaced.
+     *
+     * @param patient the patient added/updated
+     * @return the journal entry
+     */
+    public static JournalEntry putPatient(Patient patient) {
+        return new JournalEntry(Type.PUT_PATIENT, patient.getID(), patient, null, null, null, null);
+    }
+
+    /**
+     * Creates an entry for a patient being removed.
+     *
+     * @param id unique identifier of the patient removed
+     * @return the journal entry
+     */
+    public static JournalEntry deletePatient(String id) {
+        return new JournalEntry(Type.DELETE_PATIENT, id, null, null, null, null, null);
+    }
+
+    /**
+     * Creates an entry for details being added to a patient's record.
+     *
+     * @param id           unique identifier of the patient
+     * @param date         the date of the patient's consultation
+     * @param symptom      symptom added, can be null
+     * @param diagnosis    diagnosis added, can be null
+     * @param prescription prescription added, can be null
+     * @return the journal entry
+     */
+    public static JournalEntry addDetails(String id, LocalDate date,
+            String symptom, String diagnosis, String prescription) {
+        return new JournalEntry(Type.ADD_DETAILS, id, null, date, symptom, diagnosis, prescription);
+    }
+
+    /**
+     * Creates an entry for a patient's record being removed.
+     *
+     * @param id   unique identifier of the patient
+     * @param date the date of the record removed
+     * @return the journal entry
+     */
+    public static JournalEntry deleteRecord(String id, LocalDate date) {
+        return new JournalEntry(Type.DELETE_RECORD, id, null, date, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getID() {
+        return id;
+    }
+
+    public Patient getPatient() {
+        return patient;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getSymptom() {
+        return symptom;
+    }
+
+    public String getDiagnosis() {
+        return diagnosis;
+    }
+
+    public String getPrescription() {
+        return prescription;
+    }
+}
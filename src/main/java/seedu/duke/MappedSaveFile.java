@@ -0,0 +1,72 @@
+package seedu.duke;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class maps a save file into memory for reading. The contents are paged in by the operating system when they
+ * are first read, so opening the file takes the same time regardless of its size, and the records read do not have
+ * to be kept on the heap.
+ *
+ * <p>A single mapping cannot be larger than 2GB, so larger files are mapped as several segments.</p>
+ */
+public class MappedSaveFile {
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    /**
+     * This is the constructor of the MappedSaveFile class.
+     *
+     * @param filePath path to the save file
+     * @throws IOException when the file cannot be opened or mapped
+     */
+    public MappedSaveFile(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            size = channel.size();
+            segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = i * SEGMENT_SIZE;
+                // The mapping stays valid after the channel is closed
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(SEGMENT_SIZE, size - position));
+            }
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Reads bytes from the mapped file.
+     *
+     * @param offset position of the first byte to be read
+     * @param length number of bytes to be read
+     * @return the bytes read
+     * @throws IOException when the bytes are not within the file
+     */
+    public byte[] read(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = offset + copied;
+            // Each read works on its own view of the segment, so that reads from several threads do not interfere
+            ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+            segment.position((int) (position % SEGMENT_SIZE));
+            int count = Math.min(length - copied, segment.remaining());
+            segment.get(bytes, copied, count);
+            copied += count;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.duke;
+
+/**
+ * This packs NRIC/FIN numbers into longs, for the off-heap patient list and the patient index, which keep the IDs as
+ * longs instead of strings. The prefix letter, the 7-digit number and the check letter are kept in separate bits, in
+ * that order from the highest bits to the lowest, so comparing two packed numbers gives the same order as comparing
+ * them as strings, and no string has to be kept, hashed or compared. Everywhere else, IDs are kept as strings, as
+ * they are also kept by Patient and written to every file format, so a packed key in Data would have to be converted
+ * back at each of these places.
+ *
+ * <p>Layout of the packed number, from the lowest bit: check letter (5 bits, 0 for 'A'), number (24 bits), prefix
+ * letter (5 bits, 0 for 'A'). Packed numbers are never negative, so NOT_PACKED can be told apart from them.</p>
+ */
+final class Nric {
+    /**
+     * This is returned by pack() for an ID which is not in the form of an NRIC/FIN number.
+     */
+    public static final long NOT_PACKED = -1;
+    private static final int LETTER_BITS = 5;
+    private static final int NUMBER_BITS = 24;
+    private static final int[] POWERS_OF_TEN = {1000000, 100000, 10000, 1000, 100, 10, 1};
+
+    private Nric() {
+    }
+
+    /**
+     * Packs an ID in the form of an NRIC/FIN number, i.e. an upper case letter, 7 digits and an upper case letter.
+     * The prefix letter and the checksum are not checked, as IDs read from the save file are not checked either.
+     *
+     * @param id the ID to be packed
+     * @return the packed number, or NOT_PACKED if the ID is not in the form of an NRIC/FIN number
+     */
+    public static long pack(String id) {
+        if (id.length() != Constants.ID_NUMBER_OF_CHARACTERS) {
+            return NOT_PACKED;
+        }
+        char prefix = id.charAt(Constants.INDEX_OF_FIRST_CHARACTER);
+        char checkLetter = id.charAt(Constants.INDEX_OF_LAST_CHARACTER);
+        if (!isUpperCaseLetter(prefix) || !isUpperCaseLetter(checkLetter)) {
+            return NOT_PACKED;
+        }
+        int number = 0;
+        for (int i = Constants.INDEX_OF_SECOND_CHARACTER; i <= Constants.INDEX_OF_EIGHTH_CHARACTER; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_PACKED;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return ((long) (prefix - 'A') << (NUMBER_BITS + LETTER_BITS)) | ((long) number << LETTER_BITS)
+                | (checkLetter - 'A');
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Unpacks a packed number into its string form.
+     *
+     * @param value a number returned by pack()
+     * @return the NRIC/FIN number as a string
+     */
+    public static String unpack(long value) {
+        char[] id = new char[Constants.ID_NUMBER_OF_CHARACTERS];
+        for (int i = 0; i < id.length; i++) {
+            id[i] = charAt(value, i);
+        }
+        return new String(id);
+    }
+
+    /**
+     * Gets a character of the string form of a packed number, without unpacking the whole number.
+     *
+     * @param value a number returned by pack()
+     * @param index the index of the character, from 0 to 8
+     * @return the character
+     */
+    public static char charAt(long value, int index) {
+        if (index == Constants.INDEX_OF_FIRST_CHARACTER) {
+            return (char) ('A' + (value >>> (NUMBER_BITS + LETTER_BITS)));
+        } else if (index == Constants.INDEX_OF_LAST_CHARACTER) {
+            return (char) ('A' + (value & ((1 << LETTER_BITS) - 1)));
+        }
+        return (char) ('0' + getNumber(value) / POWERS_OF_TEN[index - Constants.INDEX_OF_SECOND_CHARACTER] % 10);
+    }
+
+    /**
+     * Compares a packed number with an ID, in the same order as comparing the string form of the number with the
+     * ID. The ID does not have to be in the form of an NRIC/FIN number, e.g. it can be the prefix of one.
+     *
+     * @param value a number returned by pack()
+     * @param id    the ID to be compared with
+     * @return a negative number, zero or a positive number if the packed number is smaller, equal or larger
+     */
+    public static int compare(long value, String id) {
+        int commonLength = Math.min(Constants.ID_NUMBER_OF_CHARACTERS, id.length());
+        for (int i = 0; i < commonLength; i++) {
+            char c = charAt(value, i);
+            if (c != id.charAt(i)) {
+                return c - id.charAt(i);
+            }
+        }
+        return Constants.ID_NUMBER_OF_CHARACTERS - id.length();
+    }
+
+    private static int getNumber(long value) {
+        return (int) (value >>> LETTER_BITS) & ((1 << NUMBER_BITS) - 1);
+    }
+}
@@ -0,0 +1,763 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * This is a patient list which keeps the patients and their records off the heap, for patient lists too large to be
+ * kept as objects. The records of each patient are stored as an entry in an arena of direct buffers:
+ * <pre>
+ * entry:   length of the rest of the entry in ints (int), record count (int), then for each record:
+ *              epoch day (int), symptom count, diagnosis count and prescription count (int each),
+ *              then the codes of the details in the shared TermDictionary (int each)
+ * </pre>
+ * Patients are keyed by their NRIC/FIN numbers packed into longs, so IDs are never kept, hashed or compared as
+ * strings. The entries are found by an open-addressed hash table of the packed IDs and the offsets of the entries,
+ * and the patients are kept in ID order by a sorted array of the packed IDs. Both are arrays of longs, which the
+ * garbage collector never has to look into, so the heap only grows by a few dozen bytes for each patient, however
+ * many records the patient has. IDs which are not in the form of an NRIC/FIN number cannot be stored.
+ *
+ * <p>Patients are handed out as copies decoded from their entries, and are not kept by this map. Changes made to a
+ * patient are only stored when the patient is put back. A changed patient is written as a new entry, and the space
+ * taken by old entries is reclaimed once it is larger than the space taken by the live ones.</p>
+ *
+ * <p>This class is not thread-safe. Data synchronizes all access to its patient list.</p>
+ */
+public class OffHeapPatientMap extends AbstractMap<String, Patient> implements SortedMap<String, Patient> {
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+    private static final int MAX_CHUNK_SIZE = 1 << 26;
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+    private static final int INITIAL_ORDER_CAPACITY = 16;
+    private static final int INITIAL_ENCODE_CAPACITY = 64;
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int FIELD_COUNT = 3;
+
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    /**
+     * This is where the next entry is written in the last chunk.
+     */
+    private int chunkPosition;
+    /**
+     * Each slot of the hash table takes two longs: the packed ID plus one, so that an empty slot is 0, and the offset
+     * of the entry.
+     */
+    private long[] table;
+    private int tableCapacity;
+    /**
+     * These are the packed IDs of all patients, in ascending order.
+     */
+    private long[] order;
+    private int size;
+    private long liveBytes;
+    private long garbageBytes;
+    /**
+     * This is the number of times patients have been added or removed, so that iterators can detect changes.
+     */
+    private int modificationCount;
+    /**
+     * This is reused to encode the records of each patient before they are written into the arena.
+     */
+    private int[] encodeBuffer;
+    private final Range allPatients;
+
+    /**
+     * This is the constructor of the OffHeapPatientMap class. The map is empty at first, and no memory is taken off
+     * the heap until the first patient is added.
+     */
+    public OffHeapPatientMap() {
+        this.allPatients = new Range(null, null);
+        this.encodeBuffer = new int[INITIAL_ENCODE_CAPACITY];
+        clear();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(toKey(key)) >= 0;
+    }
+
+    @Override
+    public Patient get(Object key) {
+        int slot = findSlot(toKey(key));
+        return slot >= 0 ? decodePatient((String) key, getOffset(slot)) : null;
+    }
+
+    /**
+     * Packs an ID which is used as a key.
+     *
+     * @return the packed ID, or NOT_PACKED if the key is not an ID in the form of an NRIC/FIN number
+     */
+    private static long toKey(Object key) {
+        return key instanceof String ? Nric.pack((String) key) : Nric.NOT_PACKED;
+    }
+
+    /**
+     * Adds or replaces a patient. The patient's records are copied into the arena, so later changes to the patient
+     * are not seen until it is put again. The patient's records must have been read, patients whose records are
+     * still in the save file are copied with copyFrom() instead.
+     *
+     * @param id      unique identifier of the patient, in the form of an NRIC/FIN number
+     * @param patient the patient to be stored
+     * @return a copy of the patient replaced, or null if there was no patient with the ID
+     * @throws IllegalArgumentException if the ID is not in the form of an NRIC/FIN number, or the patient's records
+     *                                  have not been read
+     */
+    @Override
+    public Patient put(String id, Patient patient) {
+        if (!patient.isLoaded()) {
+            throw new IllegalArgumentException(id);
+        }
+        try {
+            return put(id, patient.getRecords());
+        } catch (StorageException e) {
+            // Records which have been read are never read again
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Adds or replaces a patient, like put(), without decoding the patient replaced. Callers which do not need the
+     * patient replaced should use this instead of put().
+     *
+     * @param id      unique identifier of the patient, in the form of an NRIC/FIN number
+     * @param patient the patient to be stored
+     * @throws IllegalArgumentException if the ID is not in the form of an NRIC/FIN number, or the patient's records
+     *                                  have not been read
+     */
+    public void set(String id, Patient patient) {
+        if (!patient.isLoaded()) {
+            throw new IllegalArgumentException(id);
+        }
+        try {
+            store(id, patient.getRecords());
+        } catch (StorageException e) {
+            // Records which have been read are never read again
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Checks if an ID can be stored in this map, i.e. if it is in the form of an NRIC/FIN number.
+     *
+     * @param id the ID to be checked
+     * @return true if the ID can be stored, otherwise false
+     */
+    public static boolean canStore(String id) {
+        return Nric.pack(id) != Nric.NOT_PACKED;
+    }
+
+    /**
+     * Adds all patients of a patient list, e.g. one loaded from the save file. Records which have not been read
+     * from the save file are read without keeping them in the patients.
+     *
+     * @param patients the patients to be stored
+     * @throws IllegalArgumentException if an ID is not in the form of an NRIC/FIN number
+     * @throws StorageException         when the records of a patient cannot be read from the save file
+     */
+    public void copyFrom(Map<String, Patient> patients) throws StorageException {
+        for (Map.Entry<String, Patient> entry : patients.entrySet()) {
+            store(entry.getKey(), entry.getValue().readRecords());
+        }
+    }
+
+    private Patient put(String id, RecordMap records) {
+        int slot = findSlot(toKey(id));
+        Patient oldPatient = slot >= 0 ? decodePatient(id, getOffset(slot)) : null;
+        store(id, records);
+        return oldPatient;
+    }
+
+    private void store(String id, RecordMap records) {
+        long key = Nric.pack(id);
+        if (key == Nric.NOT_PACKED) {
+            throw new IllegalArgumentException(id);
+        }
+        int slot = findSlot(key);
+        long offset = writeEntry(records);
+        liveBytes += getEntryLength(offset);
+        if (slot >= 0) {
+            releaseEntry(getOffset(slot));
+            table[slot * 2 + 1] = offset;
+        } else {
+            setSlot(-slot - 1, key, offset);
+            insertOrder(key);
+            size++;
+            modificationCount++;
+            if (size * 2 > tableCapacity) {
+                rebuildTable(tableCapacity * 2);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    @Override
+    public Patient remove(Object key) {
+        long packedKey = toKey(key);
+        int slot = findSlot(packedKey);
+        if (slot < 0) {
+            return null;
+        }
+        long offset = getOffset(slot);
+        Patient oldPatient = decodePatient((String) key, offset);
+        removeSlot(slot);
+        int index = Arrays.binarySearch(order, 0, size, packedKey);
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        modificationCount++;
+        releaseEntry(offset);
+        compactIfNeeded();
+        return oldPatient;
+    }
+
+    @Override
+    public void clear() {
+        chunks = new ByteBuffer[1];
+        chunkCount = 0;
+        chunkPosition = 0;
+        table = new long[INITIAL_TABLE_CAPACITY * 2];
+        tableCapacity = INITIAL_TABLE_CAPACITY;
+        order = new long[INITIAL_ORDER_CAPACITY];
+        size = 0;
+        liveBytes = 0;
+        garbageBytes = 0;
+        modificationCount++;
+    }
+
+    /* Sorted map methods, which are all answered by a view of the whole patient list */
+
+    @Override
+    public Set<Map.Entry<String, Patient>> entrySet() {
+        return allPatients.entrySet();
+    }
+
+    @Override
+    public Comparator<? super String> comparator() {
+        return null;
+    }
+
+    @Override
+    public SortedMap<String, Patient> subMap(String fromKey, String toKey) {
+        return allPatients.subMap(fromKey, toKey);
+    }
+
+    @Override
+    public SortedMap<String, Patient> headMap(String toKey) {
+        return allPatients.headMap(toKey);
+    }
+
+    @Override
+    public SortedMap<String, Patient> tailMap(String fromKey) {
+        return allPatients.tailMap(fromKey);
+    }
+
+    @Override
+    public String firstKey() {
+        return allPatients.firstKey();
+    }
+
+    @Override
+    public String lastKey() {
+        return allPatients.lastKey();
+    }
+
+    /**
+     * Gets the number of bytes taken off the heap, including the space of old entries not yet reclaimed.
+     *
+     * @return the total capacity of the chunks of the arena
+     */
+    public long getOffHeapBytes() {
+        long bytes = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            bytes += chunks[i].capacity();
+        }
+        return bytes;
+    }
+
+    /* Arena */
+
+    private ByteBuffer getChunk(long offset) {
+        return chunks[(int) (offset >>> Integer.SIZE)];
+    }
+
+    private static int getPosition(long offset) {
+        return (int) offset;
+    }
+
+    private long allocate(int length) {
+        if (chunkCount == 0 || chunks[chunkCount - 1].capacity() - chunkPosition < length) {
+            int chunkSize = chunkCount == 0
+                    ? MIN_CHUNK_SIZE : Math.min(MAX_CHUNK_SIZE, chunks[chunkCount - 1].capacity() * 2);
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount] = ByteBuffer.allocateDirect(Math.max(chunkSize, length));
+            chunkCount++;
+            chunkPosition = 0;
+        }
+        long offset = ((long) (chunkCount - 1) << Integer.SIZE) | chunkPosition;
+        chunkPosition += length;
+        return offset;
+    }
+
+    private long writeEntry(RecordMap records) {
+        int intCount = encodeRecords(records);
+        long offset = allocate(HEADER_SIZE + intCount * Integer.BYTES);
+        ByteBuffer chunk = getChunk(offset);
+        int position = getPosition(offset);
+        chunk.putInt(position, intCount);
+        position += Integer.BYTES;
+        for (int i = 0; i < intCount; i++) {
+            chunk.putInt(position, encodeBuffer[i]);
+            position += Integer.BYTES;
+        }
+        return offset;
+    }
+
+    /**
+     * Encodes the records of a patient into encodeBuffer.
+     *
+     * @return the number of ints written
+     */
+    private int encodeRecords(RecordMap records) {
+        int count = 0;
+        count = encodeInt(count, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Record record = records.getRecordAt(i);
+            count = encodeInt(count, records.getEpochDayAt(i));
+            count = encodeInt(count, record.getSymptomCount());
+            count = encodeInt(count, record.getDiagnosisCount());
+            count = encodeInt(count, record.getPrescriptionCount());
+            // The codes are numbered in the same order as they are encoded, symptoms first
+            for (int j = 0; j < record.getCodeCount(); j++) {
+                count = encodeInt(count, record.getCodeAt(j));
+            }
+        }
+        return count;
+    }
+
+    private int encodeInt(int count, int value) {
+        if (count == encodeBuffer.length) {
+            encodeBuffer = Arrays.copyOf(encodeBuffer, count * 2);
+        }
+        encodeBuffer[count] = value;
+        return count + 1;
+    }
+
+    private Patient decodePatient(String id, long offset) {
+        ByteBuffer chunk = getChunk(offset);
+        int position = getPosition(offset) + HEADER_SIZE;
+        RecordMap records = new RecordMap();
+        int recordCount = chunk.getInt(position);
+        position += Integer.BYTES;
+        for (int i = 0; i < recordCount; i++) {
+            int epochDay = chunk.getInt(position);
+            position += Integer.BYTES;
+            int[][] fields = new int[FIELD_COUNT][];
+            for (int j = 0; j < FIELD_COUNT; j++) {
+                fields[j] = new int[chunk.getInt(position)];
+                position += Integer.BYTES;
+            }
+            for (int[] codes : fields) {
+                for (int j = 0; j < codes.length; j++) {
+                    codes[j] = chunk.getInt(position);
+                    position += Integer.BYTES;
+                }
+            }
+            records.put(epochDay, new Record(fields[0], fields[1], fields[2]));
+        }
+        return new Patient(id, records);
+    }
+
+    private static int getEntryLength(ByteBuffer chunk, int position) {
+        return HEADER_SIZE + chunk.getInt(position) * Integer.BYTES;
+    }
+
+    private int getEntryLength(long offset) {
+        return getEntryLength(getChunk(offset), getPosition(offset));
+    }
+
+    private void releaseEntry(long offset) {
+        int length = getEntryLength(offset);
+        liveBytes -= length;
+        garbageBytes += length;
+    }
+
+    /**
+     * Copies the live entries into new chunks, in ID order, once old entries take more space than live ones.
+     */
+    private void compactIfNeeded() {
+        if (garbageBytes < MIN_CHUNK_SIZE || garbageBytes <= liveBytes) {
+            return;
+        }
+        ByteBuffer[] oldChunks = chunks;
+        chunks = new ByteBuffer[1];
+        chunkCount = 0;
+        chunkPosition = 0;
+        for (int slot = 0; slot < tableCapacity; slot++) {
+            if (table[slot * 2] == 0) {
+                continue;
+            }
+            long oldOffset = getOffset(slot);
+            ByteBuffer source = oldChunks[(int) (oldOffset >>> Integer.SIZE)].duplicate();
+            int position = getPosition(oldOffset);
+            int length = getEntryLength(source, position);
+            long offset = allocate(length);
+            source.limit(position + length).position(position);
+            ByteBuffer target = getChunk(offset).duplicate();
+            target.position(getPosition(offset));
+            target.put(source);
+            table[slot * 2 + 1] = offset;
+        }
+        garbageBytes = 0;
+    }
+
+    /* Hash table */
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> Integer.SIZE);
+    }
+
+    private long getOffset(int slot) {
+        return table[slot * 2 + 1];
+    }
+
+    private void setSlot(int slot, long key, long offset) {
+        table[slot * 2] = key + 1;
+        table[slot * 2 + 1] = offset;
+    }
+
+    /**
+     * Finds the slot of a patient by linear probing.
+     *
+     * @return the slot of the patient, or (-(empty slot) - 1) if there is no patient with the ID
+     */
+    private int findSlot(long key) {
+        if (key == Nric.NOT_PACKED) {
+            return -1;
+        }
+        int mask = tableCapacity - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long value = table[slot * 2];
+            if (value == 0) {
+                return -slot - 1;
+            }
+            if (value == key + 1) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Empties a slot, moving later patients of the same probe sequence back so that no tombstone is needed.
+     */
+    private void removeSlot(int slot) {
+        int mask = tableCapacity - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next * 2] != 0; next = (next + 1) & mask) {
+            int home = hash(table[next * 2] - 1) & mask;
+            // The patient can only fill the hole if the hole is between its home slot and its current slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole * 2] = table[next * 2];
+                table[hole * 2 + 1] = table[next * 2 + 1];
+                hole = next;
+            }
+        }
+        table[hole * 2] = 0;
+        table[hole * 2 + 1] = 0;
+    }
+
+    private void rebuildTable(int capacity) {
+        long[] oldTable = table;
+        table = new long[capacity * 2];
+        tableCapacity = capacity;
+        int mask = capacity - 1;
+        for (int i = 0; i < oldTable.length; i += 2) {
+            if (oldTable[i] == 0) {
+                continue;
+            }
+            int slot = hash(oldTable[i] - 1) & mask;
+            while (table[slot * 2] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot * 2] = oldTable[i];
+            table[slot * 2 + 1] = oldTable[i + 1];
+        }
+    }
+
+    /* Sorted order */
+
+    private void insertOrder(long key) {
+        // Patients are mostly added in ID order, e.g. when loading the save file, so the end is tried first
+        int index = size == 0 || order[size - 1] < key ? size : -Arrays.binarySearch(order, 0, size, key) - 1;
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size + (size >> 1));
+        }
+        System.arraycopy(order, index, order, index + 1, size - index);
+        order[index] = key;
+    }
+
+    /**
+     * Finds the index of the first patient with an ID not smaller than a bound. The bound does not have to be in the
+     * form of an NRIC/FIN number, e.g. it can be a prefix of one.
+     */
+    private int lowerBound(String bound) {
+        if (bound == null) {
+            return 0;
+        }
+        long packedBound = Nric.pack(bound);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            boolean isBelow = packedBound != Nric.NOT_PACKED
+                    ? order[middle] < packedBound : Nric.compare(order[middle], bound) < 0;
+            if (isBelow) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * This is a view of the patients with IDs within a range, which is what subMap, headMap and tailMap return.
+     * Its size and iterators find the range by binary search, so they cost the same however many patients are
+     * outside the range.
+     */
+    private class Range extends AbstractMap<String, Patient> implements SortedMap<String, Patient> {
+        /**
+         * This is the smallest ID in the range, or null for no lower bound.
+         */
+        private final String fromKey;
+        /**
+         * This is the smallest ID after the range, or null for no upper bound.
+         */
+        private final String toKey;
+
+        private Range(String fromKey, String toKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        private boolean isInRange(Object key) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+            String id = (String) key;
+            return (fromKey == null || id.compareTo(fromKey) >= 0) && (toKey == null || id.compareTo(toKey) < 0);
+        }
+
+        private int getStartIndex() {
+            return lowerBound(fromKey);
+        }
+
+        private int getEndIndex() {
+            return toKey == null ? size : Math.max(getStartIndex(), lowerBound(toKey));
+        }
+
+        @Override
+        public int size() {
+            return getEndIndex() - getStartIndex();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return isInRange(key) && OffHeapPatientMap.this.containsKey(key);
+        }
+
+        @Override
+        public Patient get(Object key) {
+            return isInRange(key) ? OffHeapPatientMap.this.get(key) : null;
+        }
+
+        @Override
+        public Patient put(String id, Patient patient) {
+            if (!isInRange(id)) {
+                throw new IllegalArgumentException(id);
+            }
+            return OffHeapPatientMap.this.put(id, patient);
+        }
+
+        @Override
+        public Patient remove(Object key) {
+            return isInRange(key) ? OffHeapPatientMap.this.remove(key) : null;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Patient>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return Range.this.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<String, Patient>> iterator() {
+                    return new EntryIterator(getStartIndex(), getEndIndex());
+                }
+            };
+        }
+
+        @Override
+        public Comparator<? super String> comparator() {
+            return null;
+        }
+
+        @Override
+        public SortedMap<String, Patient> subMap(String fromKey, String toKey) {
+            if (fromKey.compareTo(toKey) > 0) {
+                throw new IllegalArgumentException(fromKey);
+            }
+            checkBound(fromKey);
+            checkBound(toKey);
+            return new Range(fromKey, toKey);
+        }
+
+        @Override
+        public SortedMap<String, Patient> headMap(String toKey) {
+            checkBound(toKey);
+            return new Range(fromKey, toKey);
+        }
+
+        @Override
+        public SortedMap<String, Patient> tailMap(String fromKey) {
+            checkBound(fromKey);
+            return new Range(fromKey, toKey);
+        }
+
+        /**
+         * Checks that the bound of a narrower range is within this range. The end of this range is allowed.
+         */
+        private void checkBound(String key) {
+            boolean isInBounds = (fromKey == null || key.compareTo(fromKey) >= 0)
+                    && (toKey == null || key.compareTo(toKey) <= 0);
+            if (!isInBounds) {
+                throw new IllegalArgumentException(key);
+            }
+        }
+
+        @Override
+        public String firstKey() {
+            int index = getStartIndex();
+            if (index >= getEndIndex()) {
+                throw new NoSuchElementException();
+            }
+            return Nric.unpack(order[index]);
+        }
+
+        @Override
+        public String lastKey() {
+            int index = getEndIndex() - 1;
+            if (index < getStartIndex()) {
+                throw new NoSuchElementException();
+            }
+            return Nric.unpack(order[index]);
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Patient>> {
+        private int nextIndex;
+        private int endIndex;
+        private String lastID = null;
+        private int expectedModificationCount = modificationCount;
+
+        private EntryIterator(int startIndex, int endIndex) {
+            this.nextIndex = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < endIndex;
+        }
+
+        @Override
+        public Map.Entry<String, Patient> next() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextIndex >= endIndex) {
+                throw new NoSuchElementException();
+            }
+            lastID = Nric.unpack(order[nextIndex++]);
+            return new Entry(lastID);
+        }
+
+        @Override
+        public void remove() {
+            if (lastID == null) {
+                throw new IllegalStateException();
+            }
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            OffHeapPatientMap.this.remove(lastID);
+            nextIndex--;
+            endIndex--;
+            lastID = null;
+            expectedModificationCount = modificationCount;
+        }
+    }
+
+    /**
+     * This is a patient as a map entry. Only the ID is decoded, the patient is decoded when the value is asked for.
+     */
+    private class Entry implements Map.Entry<String, Patient> {
+        private final String id;
+
+        private Entry(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getKey() {
+            return id;
+        }
+
+        @Override
+        public Patient getValue() {
+            return get(id);
+        }
+
+        @Override
+        public Patient setValue(Patient patient) {
+            return put(id, patient);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return id.equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode() ^ Objects.hashCode(getValue());
+        }
+    }
+}
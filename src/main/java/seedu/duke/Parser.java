@@ -1,11 +1,9 @@
 package seedu.duke;
 
-import java.lang.reflect.Constructor;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 
 import seedu.duke.command.Command;
+import seedu.duke.command.CommandRegistry;
 import seedu.duke.exception.InvalidInputException;
 import seedu.duke.exception.UnknownException;
 
@@ -25,6 +23,21 @@ public class Parser {
         "~", "`", "%", "#", "@", "!"
     };
 
+    /**
+     * This is a lookup table of the characters in forbiddenSubstrings, which are all single ASCII characters.
+     */
+    private static final boolean[] forbiddenCharacters = new boolean[128];
+
+    static {
+        for (String string : forbiddenSubstrings) {
+            assert string.length() == 1 && string.charAt(0) < forbiddenCharacters.length;
+            forbiddenCharacters[string.charAt(0)] = true;
+        }
+    }
+
+    // Most commands have a payload and up to three options, plus the command itself
+    private static final int INITIAL_ARGUMENT_CAPACITY = 8;
+
     protected Ui ui;
     protected Data data;
 
@@ -51,86 +64,103 @@ public class Parser {
      * | optY    | Y_description Y_description_1 |
      * | optZ    | Z_description                 |
      * Then, ui, tasks and this argument hashmap will be passed to initialize a command class.
-     * The command class is determined by the 1st token of the command string. For example, for a command string 'find',
-     * command class 'duke.command.FindCommand' will be initialized.
+     * The command class is determined by the 1st token of the command string, and is looked up in CommandRegistry.
+     * For example, for a command string 'find', command class 'seedu.duke.command.FindCommand' will be initialized.
      *
      * @param fullCommand The line of command to be parsed
      * @return A Command instance which is ready to be executed
      * @see Command
      */
     public Command parse(String fullCommand) throws InvalidInputException, UnknownException {
-        checkDelimiters(fullCommand);
-        String[] tokens = fullCommand.split("\\s+");
+        HashMap<String, String> arguments = new HashMap<>(INITIAL_ARGUMENT_CAPACITY);
+        String command = tokenize(fullCommand, arguments);
 
-        // If tokenized command returns an empty array (entered a string with only white spaces),
-        // raise an exception
-        if (tokens.length == 0) {
-            throw new InvalidInputException(InvalidInputException.Type.EMPTY_STRING);
-        }
-        // If first token (command) is empty, there are empty spaces typed in at the front - so we remove it
-        if (tokens[0].isEmpty()) {
-            tokens = Arrays.copyOfRange(tokens, 1, tokens.length);
-            // Check again to make sure it is not empty after removing first element
-            if (tokens.length == 0) {
-                throw new InvalidInputException(InvalidInputException.Type.EMPTY_STRING);
-            }
-        }
-
-        HashMap<String, String> arguments = new HashMap<>();
-        // Conver input command to lowercase to make it case insensitive
-        String command = tokens[0].toLowerCase();
-        arguments.put("command", command);
+        // Initialize a respective class from the command, using the factory registered for it
+        return CommandRegistry.get(command).create(ui, data, arguments);
+    }
 
+    /**
+     * Splits a line of command into the argument hashmap described in parse(), in a single pass over the line.
+     * Tokens are separated by any number of whitespaces, and the tokens of each value are joined with DELIMITER.
+     * Forbidden characters are checked in the same pass.
+     *
+     * @param fullCommand The line of command to be split
+     * @param arguments   The hashmap to put the arguments into
+     * @return the command, i.e. the first token in lowercase
+     * @throws InvalidInputException when the line is empty or contains forbidden substrings
+     */
+    private String tokenize(String fullCommand, HashMap<String, String> arguments) throws InvalidInputException {
+        String command = null;
         // Default key is "payload"
-        String key = "payload";
-        ArrayList<String> values = new ArrayList<>();
-        for (int i = 1; i < tokens.length; ++i) {
-            String token = tokens[i];
-            // Check whether this token is a new key
-            if (!token.isEmpty() && token.charAt(0) == '/') {
-                // If it is, save current value into the map and start a new k-v pair
-                arguments.put(key, String.join(DELIMITER, values));
-                key = token.substring(1);
-                values.clear();
+        String key = Constants.PAYLOAD_KEY;
+        StringBuilder value = new StringBuilder();
+        int length = fullCommand.length();
+        int i = 0;
+        while (i < length) {
+            if (isWhitespace(fullCommand.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            char c;
+            while (i < length && !isWhitespace(c = fullCommand.charAt(i))) {
+                if (isForbidden(c)) {
+                    throw new InvalidInputException(InvalidInputException.Type.FORBIDDEN_SUBSTRING);
+                }
+                i++;
+            }
+            if (command == null) {
+                // Convert input command to lowercase to make it case insensitive
+                command = fullCommand.substring(start, i).toLowerCase();
+                arguments.put("command", command);
+            } else if (fullCommand.charAt(start) == '/') {
+                // This token is a new key, save current value into the map and start a new k-v pair
+                arguments.put(key, value.toString());
+                key = fullCommand.substring(start + 1, i);
+                value.setLength(0);
             } else {
                 // If not, append this token to the end of the value
-                values.add(token);
+                if (value.length() > 0) {
+                    value.append(DELIMITER);
+                }
+                value.append(fullCommand, start, i);
             }
         }
 
-        // Store the last k-v pair
-        // Store even when `values` is empty, as that indicates an empty string
-        arguments.put(key, String.join(DELIMITER, values));
-
-        // Initialize a respective class from the command (by capitalize first character)
-        String className = command + "Command";
-        className = className.substring(0, 1).toUpperCase() + className.substring(1);
-        className = Constants.COMMAND_CLASS_PREFIX + className;
-        try {
-            Class<?> cls = Class.forName(className);
-            Constructor<?> constructor = cls.getDeclaredConstructor(Ui.class, Data.class, HashMap.class);
-            Object obj = constructor.newInstance(ui, data, arguments);
-            return (Command) obj;
-        } catch (ClassNotFoundException classNotFoundException) {
-            // *Command class cannot be found!
-            throw new InvalidInputException(InvalidInputException.Type.UNKNOWN_COMMAND, classNotFoundException);
-        } catch (Exception exception) {
-            // Some other weird error occurred here (e.g. dev bugs)
-            // We should NEVER reach this block, if we do, log under the highest level
-            throw new UnknownException(exception);
+        // If there is no token (entered a string with only white spaces), raise an exception
+        if (command == null) {
+            throw new InvalidInputException(InvalidInputException.Type.EMPTY_STRING);
         }
+        // Store the last k-v pair
+        // Store even when `value` is empty, as that indicates an empty string
+        arguments.put(key, value.toString());
+        return command;
     }
 
     /**
-     * This methods check whether the input full command contains forbidden substrings.
-     * @param fullCommand user-input command
-     * @throws InvalidInputException when forbidden substrings are found
+     * Checks whether a string contains any of the forbiddenSubstrings, which would corrupt the save file.
+     * Strings which do not come through the parser (e.g. imported from a file) should be checked with this.
+     *
+     * @param string the string to be checked
+     * @return true if the string contains a forbidden substring
      */
-    private void checkDelimiters(String fullCommand) throws InvalidInputException {
-        for (String string : forbiddenSubstrings) {
-            if (fullCommand.contains(string)) {
-                throw new InvalidInputException(InvalidInputException.Type.FORBIDDEN_SUBSTRING);
+    public static boolean containsForbiddenSubstring(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (isForbidden(string.charAt(i))) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private static boolean isForbidden(char c) {
+        return c < forbiddenCharacters.length && forbiddenCharacters[c];
+    }
+
+    /**
+     * Checks for the same whitespace characters as the regular expression "\\s".
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
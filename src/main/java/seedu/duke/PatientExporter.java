@@ -0,0 +1,258 @@
+package seedu.duke;
+
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * This class writes patients and their records to a flat file, with one row for each visit (in CSV files, one row for
+ * each detail of a visit). Patients without any record are written as a row with only their ID, unless the records
+ * are filtered by date.
+ *
+ * <p>The rows are written through a buffered writer while going through the patient list, so the memory used does
+ * not grow with the size of the export. Records which have not been read from the save file are read for the
+ * export only, and are not kept in memory afterwards.</p>
+ */
+public class PatientExporter {
+    /**
+     * This is the format of the file written. CSV files can be imported again with the import command.
+     * JSONL files have one JSON object on each line.
+     */
+    public enum Format {
+        CSV,
+        JSONL
+    }
+
+    public static final String CSV_HEADER = "nric,date,symptom,diagnosis,prescription";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Format format;
+    private String firstID;
+    private String lastID;
+    private LocalDate firstDate;
+    private LocalDate lastDate;
+    private int patientCount;
+    private int recordCount;
+
+    /**
+     * This is the constructor of the PatientExporter class. By default, all patients and records are exported.
+     *
+     * @param format the format of the file to be written
+     */
+    public PatientExporter(Format format) {
+        this.format = format;
+        this.firstID = null;
+        this.lastID = null;
+        this.firstDate = null;
+        this.lastDate = null;
+        this.patientCount = 0;
+        this.recordCount = 0;
+    }
+
+    /**
+     * Only exports the patients with IDs within a range.
+     *
+     * @param firstID the smallest ID to be exported, or null for no lower bound
+     * @param lastID  the largest ID to be exported, or null for no upper bound
+     */
+    public void setIDRange(String firstID, String lastID) {
+        this.firstID = firstID;
+        this.lastID = lastID;
+    }
+
+    /**
+     * Only exports the records with dates within a range.
+     *
+     * @param firstDate the earliest date to be exported, or null for no lower bound
+     * @param lastDate  the latest date to be exported, or null for no upper bound
+     */
+    public void setDateRange(LocalDate firstDate, LocalDate lastDate) {
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * Writes the patients within the ID range to a file. An existing file is overwritten.
+     *
+     * @param patients the patient list
+     * @param filePath path to the file to be written
+     * @throws InvalidInputException when the file cannot be written
+     * @throws StorageException      when the records of a patient cannot be read from the save file
+     */
+    public void export(SortedMap<String, Patient> patients, String filePath)
+            throws InvalidInputException, StorageException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(Paths.get(filePath)), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            export(patients, writer);
+        } catch (IOException | InvalidPathException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_EXPORT_FILE, e);
+        }
+    }
+
+    /**
+     * Writes the patients within the ID range.
+     *
+     * @param patients the patient list
+     * @param writer   the writer to write the rows to
+     * @throws IOException      when the rows cannot be written
+     * @throws StorageException when the records of a patient cannot be read from the save file
+     */
+    public void export(SortedMap<String, Patient> patients, Writer writer) throws IOException, StorageException {
+        patientCount = 0;
+        recordCount = 0;
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        boolean isDateFiltered = firstDate != null || lastDate != null;
+        for (Patient patient : getPatientRange(patients).values()) {
+            List<Map.Entry<LocalDate, Record>> records = patient.readRecords().getRange(firstDate, lastDate);
+            if (records.isEmpty()) {
+                if (!isDateFiltered) {
+                    writeRow(writer, patient.getID(), null, null);
+                    patientCount++;
+                }
+                continue;
+            }
+            for (Map.Entry<LocalDate, Record> entry : records) {
+                writeRow(writer, patient.getID(), entry.getKey(), entry.getValue());
+                recordCount++;
+            }
+            patientCount++;
+        }
+    }
+
+    /**
+     * Gets the patients within the ID range. As the patient list is sorted, this is a view of the list rather than
+     * a copy, and patients outside the range are never visited.
+     */
+    private SortedMap<String, Patient> getPatientRange(SortedMap<String, Patient> patients) {
+        // The smallest string after lastID, so that lastID itself is included
+        return Common.getRange(patients, firstID, lastID == null ? null : lastID + Character.MIN_VALUE);
+    }
+
+    private void writeRow(Writer writer, String id, LocalDate date, Record record) throws IOException {
+        switch (format) {
+        case JSONL:
+            writer.write("{\"nric\":");
+            writeJsonString(writer, id);
+            if (record != null) {
+                writer.write(",\"date\":");
+                writeJsonString(writer, Common.formatDate(date));
+                writeJsonArray(writer, "symptoms", record.getSymptoms());
+                writeJsonArray(writer, "diagnoses", record.getDiagnoses());
+                writeJsonArray(writer, "prescriptions", record.getPrescriptions());
+            }
+            writer.write('}');
+            writer.write('\n');
+            break;
+        default:
+            if (record == null) {
+                writer.write(id);
+                writer.write('\n');
+            } else {
+                writeCsvRows(writer, id, date, record);
+            }
+        }
+    }
+
+    /**
+     * Writes a record as CSV rows with one detail of each type in each row, as many rows as the type with the most
+     * details. The import command adds the details of rows with the same ID and date into the same record, in the
+     * order of the rows, so the record is imported again as it is.
+     */
+    private static void writeCsvRows(Writer writer, String id, LocalDate date, Record record) throws IOException {
+        List<String> symptoms = record.getSymptoms();
+        List<String> diagnoses = record.getDiagnoses();
+        List<String> prescriptions = record.getPrescriptions();
+        String dateString = Common.formatDate(date);
+        int rowCount = Math.max(1, Math.max(symptoms.size(), Math.max(diagnoses.size(), prescriptions.size())));
+        for (int i = 0; i < rowCount; i++) {
+            writer.write(id);
+            writer.write(',');
+            writer.write(dateString);
+            writeCsvColumn(writer, symptoms, i);
+            writeCsvColumn(writer, diagnoses, i);
+            writeCsvColumn(writer, prescriptions, i);
+            writer.write('\n');
+        }
+    }
+
+    private static void writeCsvColumn(Writer writer, List<String> details, int index) throws IOException {
+        writer.write(',');
+        if (index >= details.size()) {
+            return;
+        }
+        String column = details.get(index);
+        if (column.indexOf(',') < 0 && column.indexOf('"') < 0) {
+            writer.write(column);
+            return;
+        }
+        writer.write('"');
+        writer.write(column.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonArray(Writer writer, String name, List<String> details) throws IOException {
+        writer.write(",\"");
+        writer.write(name);
+        writer.write("\":[");
+        boolean isFirst = true;
+        for (String detail : details) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            isFirst = false;
+            writeJsonString(writer, detail);
+        }
+        writer.write(']');
+    }
+
+    private static void writeJsonString(Writer writer, String string) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c < ' ') {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Gets the number of patients written by the last export.
+     *
+     * @return the number of patients with at least one row
+     */
+    public int getPatientCount() {
+        return patientCount;
+    }
+
+    /**
+     * Gets the number of records written by the last export.
+     *
+     * @return the number of rows with a record
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * This class maps each patient's ID to the location of its records in the save file. It is kept in a file next to
+ * the save file, so that the patient list can be loaded without reading any records.
+ *
+ * <p>The index file is only a cache. It is tagged with the generation number and the size of the save file it
+ * belongs to, and is rebuilt from the save file whenever it does not match.</p>
+ *
+ * <p>IDs in the form of an NRIC/FIN number are kept packed into longs, in memory and in the index file. Other IDs,
+ * which can only come from a save file edited by hand, are kept as strings.</p>
+ */
+public class PatientIndex {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * This is written at the start of the index file, so that index files written before IDs were packed are rebuilt.
+     */
+    private static final int MAGIC = 0x504d4932;
+
+    private final long generation;
+    private long[] keys;
+    /**
+     * These are the IDs which cannot be packed, at the same positions as their patients. It stays null until such an
+     * ID is added.
+     */
+    private String[] otherIDs;
+    private long[] offsets;
+    private int[] lengths;
+    private int size;
+
+    /**
+     * This is the constructor of the PatientIndex class.
+     *
+     * @param generation the generation number of the save file this index belongs to
+     */
+    public PatientIndex(long generation) {
+        this.generation = generation;
+        this.keys = new long[INITIAL_CAPACITY];
+        this.otherIDs = null;
+        this.offsets = new long[INITIAL_CAPACITY];
+        this.lengths = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the location of a patient's records to the index.
+     *
+     * @param id     unique identifier of the patient
+     * @param offset position of the first byte of the patient's records in the save file
+     * @param length number of bytes taken by the patient's records
+     */
+    public void add(String id, long offset, int length) {
+        add(Nric.pack(id), id, offset, length);
+    }
+
+    private void add(long key, String id, long offset, int length) {
+        if (key == Nric.NOT_PACKED && otherIDs == null) {
+            otherIDs = new String[keys.length];
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            otherIDs = otherIDs == null ? null : Arrays.copyOf(otherIDs, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        keys[size] = key;
+        if (key == Nric.NOT_PACKED) {
+            otherIDs[size] = id;
+        }
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the ID of a patient in the index.
+     *
+     * @param i the position of the patient in the index
+     * @return the ID, unpacked into a string
+     */
+    public String getID(int i) {
+        return keys[i] == Nric.NOT_PACKED ? otherIDs[i] : Nric.unpack(keys[i]);
+    }
+
+
+    public long getOffset(int i) {
+        return offsets[i];
+    }
+
+    public int getLength(int i) {
+        return lengths[i];
+    }
+
+    /**
+     * Writes the index into a file.
+     *
+     * @param filePath     path to the index file
+     * @param saveFileSize size of the save file this index belongs to
+     * @throws IOException when the file cannot be written
+     */
+    public void write(String filePath, long saveFileSize) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(filePath), BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeLong(generation);
+            output.writeLong(saveFileSize);
+            output.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                output.writeLong(keys[i]);
+                if (keys[i] == Nric.NOT_PACKED) {
+                    output.writeUTF(otherIDs[i]);
+                }
+                output.writeLong(offsets[i]);
+                output.writeInt(lengths[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads the index from a file.
+     *
+     * @param filePath     path to the index file
+     * @param generation   generation number of the save file
+     * @param saveFileSize size of the save file
+     * @return the index, or null if the index file does not exist, is corrupted or belongs to another save file
+     */
+    public static PatientIndex read(String filePath, long generation, long saveFileSize) {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(filePath), BUFFER_SIZE))) {
+            if (input.readInt() != MAGIC || input.readLong() != generation || input.readLong() != saveFileSize) {
+                return null;
+            }
+            PatientIndex index = new PatientIndex(generation);
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                long key = input.readLong();
+                if (key < Nric.NOT_PACKED) {
+                    return null;
+                }
+                String id = key == Nric.NOT_PACKED ? input.readUTF() : null;
+                index.add(key, id, input.readLong(), input.readInt());
+            }
+            return index;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the index by scanning a save file in the text format. Only the patients' IDs are decoded, records are
+     * skipped over byte by byte, which is safe as none of the bytes of a multi-byte character is a delimiter.
+     *
+     * @param inputStream the stream to read from, positioned at the start of the save file
+     * @param generation  generation number of the save file
+     * @return the index built
+     * @throws IOException      when the underlying stream fails
+     * @throws StorageException when the save file is malformed
+     */
+    public static PatientIndex scanText(InputStream inputStream, long generation)
+            throws IOException, StorageException {
+        PatientIndex index = new PatientIndex(generation);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        StringBuilder id = new StringBuilder();
+        long position = 0;
+        long recordsOffset = 0;
+        boolean isInHeader = false;
+        boolean isInID = false;
+        boolean isInRecords = false;
+        int bytesRead;
+        while ((bytesRead = inputStream.read(buffer)) > 0) {
+            for (int i = 0; i < bytesRead; i++, position++) {
+                byte b = buffer[i];
+                if (isInHeader || isInRecords) {
+                    if (b == '\n') {
+                        if (isInRecords) {
+                            index.add(id.toString(), recordsOffset, (int) (position - recordsOffset));
+                        }
+                        isInHeader = false;
+                        isInRecords = false;
+                    }
+                } else if (isInID) {
+                    if (b == '\n') {
+                        throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+                    } else if (b == '~') {
+                        // The 2nd character of ID_DELIMITER is checked by the reader when the records are loaded
+                        isInID = false;
+                        isInRecords = true;
+                        recordsOffset = position + Constants.ID_DELIMITER.length();
+                    } else {
+                        id.append((char) (b & 0xff));
+                    }
+                } else if (position == 0 && b == Constants.GENERATION_HEADER.charAt(0)) {
+                    isInHeader = true;
+                } else if (b != '\n' && b != '\r') {
+                    id.setLength(0);
+                    id.append((char) (b & 0xff));
+                    isInID = true;
+                }
+            }
+        }
+        if (isInID) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+        }
+        if (isInRecords) {
+            index.add(id.toString(), recordsOffset, (int) Math.max(0, position - recordsOffset));
+        }
+        return index;
+    }
+}
@@ -3,6 +3,13 @@ package seedu.duke;
 import seedu.duke.command.Command;
 import seedu.duke.exception.InvalidInputException;
 import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.FileDescriptor;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 /**
  * Main class of the application, where the entry point is.
@@ -14,26 +21,75 @@ public class PatientManager {
 
     /**
      * This initializes all resources for the program.
+     *
+     * @throws StorageException when the save file exists but cannot be loaded
      */
-    private PatientManager(String filePath) {
-        ui = new Ui();
+    private PatientManager(String filePath, boolean isSharded, boolean isReadOnly, boolean isOffHeap,
+            String durability, Ui ui) throws StorageException {
+        this.ui = ui;
         Storage storage;
-        if (filePath == null) {
+        if (isSharded) {
+            storage = new ShardedStorage(filePath == null ? Constants.STORAGE_DEFAULT_SHARD_DIRECTORY : filePath);
+        } else if (filePath == null) {
             storage = new Storage();
         } else {
             storage = new Storage(filePath);
         }
+        storage.setReadOnly(isReadOnly);
         ui.printMessage("Currently using save file: " + storage.getFilePath());
+        SortedMap<String, Patient> patients;
         try {
-            data = new Data(storage, storage.load());
+            patients = storage.load();
         } catch (StorageException e) {
-            // This only happens when the storage file is not found - print a friendly message to inform user
+            if (e.type != StorageException.Type.FILE_NOT_FOUND) {
+                // Starting with an empty list would replace the save file with it on the next full snapshot
+                throw e;
+            }
+            // The storage file is not found - print a friendly message to inform user
             ui.printMessage(e.getMessage());
-            data = new Data(storage);
+            patients = new TreeMap<>();
+        }
+        if (isOffHeap) {
+            // Records which have not been read are read while being copied off the heap, and are not kept
+            OffHeapPatientMap offHeapPatients = new OffHeapPatientMap();
+            try {
+                offHeapPatients.copyFrom(patients);
+                patients = offHeapPatients;
+            } catch (IllegalArgumentException e) {
+                // Only IDs in the form of an NRIC/FIN number can be packed, other IDs are kept on the heap
+                ui.printMessage(Constants.OFF_HEAP_INVALID_ID_MESSAGE);
+            }
+        }
+        data = new Data(storage, patients);
+        if (durability != null) {
+            setDurability(durability);
         }
         parser = new Parser(ui, data);
     }
 
+    /**
+     * This sets when the changes are written to the save file, from the value given on the command line.
+     *
+     * @param durability "sync", "on-exit", or the number of milliseconds between background saves
+     */
+    private void setDurability(String durability) {
+        if (durability.equals(Constants.DURABILITY_SYNC)) {
+            data.setDurability(Data.Durability.SYNC, 0);
+        } else if (durability.equals(Constants.DURABILITY_ON_EXIT)) {
+            data.setDurability(Data.Durability.ON_EXIT, 0);
+        } else {
+            try {
+                long flushInterval = Long.parseLong(durability);
+                if (flushInterval < 0) {
+                    throw new NumberFormatException(durability);
+                }
+                data.setDurability(Data.Durability.INTERVAL, flushInterval);
+            } catch (NumberFormatException e) {
+                ui.printMessage(Constants.INVALID_DURABILITY_MESSAGE);
+            }
+        }
+    }
+
     /**
      * This is the actual program logic for the application.
      */
@@ -64,17 +120,134 @@ public class PatientManager {
                 ui.printException(e);
             } finally {
                 ui.printLine();
+                ui.flush();
             }
         }
         // Program Exits, do some cleaning
-        ui.closeScanner();
+        try {
+            // Nothing is written if the exit command has already saved everything
+            data.flush();
+        } catch (StorageException e) {
+            ui.printException(e);
+        }
+        ui.close();
+    }
+
+    /**
+     * This runs the commands in a file without any user interaction.
+     *
+     * @param batchPath     path to the file of commands, one command per line
+     * @param flushInterval number of commands between saves, or 0 to only save at the end
+     * @return number of commands which failed
+     */
+    private int runBatch(String batchPath, int flushInterval) {
+        int errorCount = new BatchRunner(ui, data, flushInterval).run(batchPath);
+        ui.close();
+        return errorCount;
+    }
+
+    /**
+     * This gets the number of commands between saves in batch mode, from the value given on the command line.
+     *
+     * @param flushEvery the value given on the command line, or null if it is not given
+     * @param ui         Instance of Ui class, for reporting an invalid value
+     * @return the number of commands between saves, or 0 to only save at the end
+     */
+    private static int getFlushInterval(String flushEvery, Ui ui) {
+        if (flushEvery == null) {
+            return 0;
+        }
+        try {
+            int flushInterval = Integer.parseInt(flushEvery);
+            if (flushInterval < 0) {
+                throw new NumberFormatException(flushEvery);
+            }
+            return flushInterval;
+        } catch (NumberFormatException e) {
+            ui.printMessage(Constants.INVALID_FLUSH_EVERY_MESSAGE);
+            return 0;
+        }
     }
 
     /**
      * Main entry-point for the PatientManager application.
+     * The arguments are an optional path to the save file, and the following options:
+     * <ul>
+     *     <li>--sharded: the path is a directory, with the patients split across several save files in it</li>
+     *     <li>--read-only: the save file is mapped into memory, and no changes can be made</li>
+     *     <li>--off-heap: the patients and their records are kept off the heap, for very large patient lists</li>
+     *     <li>--durability sync|on-exit|MILLISECONDS: when the changes are written to the save file</li>
+     *     <li>--output FILE: the output is written to the file in batch mode, i.e. through a large buffer</li>
+     *     <li>--batch FILE: the commands in the file are run without user interaction</li>
+     *     <li>--flush-every N: in batch mode, the changes are saved every N commands instead of only at the end</li>
+     * </ul>
+     * If the console is not interactive (e.g. the input or output is redirected), the output is buffered and written
+     * out once per command.
      */
     public static void main(String[] args) {
-        PatientManager pm = new PatientManager(args.length > 0 ? args[0] : null);
-        pm.run();
+        String filePath = null;
+        boolean isSharded = false;
+        boolean isReadOnly = false;
+        boolean isOffHeap = false;
+        String durability = null;
+        String outputPath = null;
+        String batchPath = null;
+        String flushEvery = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(Constants.SHARDED_OPTION)) {
+                isSharded = true;
+            } else if (args[i].equals(Constants.READ_ONLY_OPTION)) {
+                isReadOnly = true;
+            } else if (args[i].equals(Constants.OFF_HEAP_OPTION)) {
+                isOffHeap = true;
+            } else if (args[i].equals(Constants.DURABILITY_OPTION) && i + 1 < args.length) {
+                durability = args[++i];
+            } else if (args[i].equals(Constants.OUTPUT_OPTION) && i + 1 < args.length) {
+                outputPath = args[++i];
+            } else if (args[i].equals(Constants.BATCH_OPTION) && i + 1 < args.length) {
+                batchPath = args[++i];
+            } else if (args[i].equals(Constants.FLUSH_EVERY_OPTION) && i + 1 < args.length) {
+                flushEvery = args[++i];
+            } else {
+                filePath = args[i];
+            }
+        }
+        Ui ui;
+        if (outputPath != null) {
+            try {
+                ui = new Ui(new FileOutputStream(outputPath), true);
+            } catch (FileNotFoundException e) {
+                System.out.println(Constants.OUTPUT_FILE_FAIL_MESSAGE + outputPath);
+                return;
+            }
+        } else if (batchPath != null) {
+            ui = new Ui(new FileOutputStream(FileDescriptor.out), true);
+        } else if (System.console() == null) {
+            ui = new Ui(new FileOutputStream(FileDescriptor.out), false);
+        } else {
+            ui = new Ui();
+        }
+        int flushInterval = getFlushInterval(flushEvery, ui);
+        if (batchPath != null && durability != null) {
+            // The changes made by a batch are saved as given by --flush-every instead
+            ui.printMessage(Constants.BATCH_DURABILITY_IGNORED_MESSAGE);
+            durability = null;
+        }
+        PatientManager pm;
+        try {
+            pm = new PatientManager(filePath, isSharded, isReadOnly, isOffHeap, durability, ui);
+        } catch (StorageException e) {
+            ui.printException(e);
+            ui.printMessage(Constants.STORAGE_LOAD_ABORTED);
+            ui.close();
+            System.exit(1);
+            return;
+        }
+        if (batchPath == null) {
+            pm.run();
+        } else if (pm.runBatch(batchPath, flushInterval) > 0) {
+            // Lets scripts running the batch know that some commands have failed
+            System.exit(1);
+        }
     }
 }
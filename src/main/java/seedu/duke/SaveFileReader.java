@@ -0,0 +1,277 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+import seedu.duke.model.TermDictionary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * This class parses the save file (and the journal, which uses the same format) in a single pass. Characters are
+ * read through a buffer and matched against the delimiters one by one, so patients and records are built directly
+ * without splitting lines into intermediate arrays.
+ */
+public class SaveFileReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int END_OF_FILE = -1;
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private final StringBuilder text;
+    /**
+     * This holds the codes of the details of the field being read, before they are copied into the record.
+     */
+    private int[] codes;
+
+    /**
+     * This is the constructor of the SaveFileReader class.
+     *
+     * @param reader the source of characters to be parsed, it does not need to be buffered
+     */
+    public SaveFileReader(Reader reader) {
+        this(reader, BUFFER_SIZE);
+    }
+
+    /**
+     * This is the constructor of the SaveFileReader class, with a buffer of a given size. A small buffer should be
+     * used when only a short text is read, e.g. the records of a single patient.
+     *
+     * @param reader     the source of characters to be parsed, it does not need to be buffered
+     * @param bufferSize the number of characters read from the reader at a time
+     */
+    public SaveFileReader(Reader reader, int bufferSize) {
+        this.reader = reader;
+        this.buffer = new char[Math.max(1, Math.min(bufferSize, BUFFER_SIZE))];
+        this.position = 0;
+        this.limit = 0;
+        this.text = new StringBuilder();
+        this.codes = new int[1];
+    }
+
+    /**
+     * Reads the generation number at the start of the file. This must be called before reading any patient.
+     *
+     * @return the generation number, or 0 if the file does not start with a generation number
+     * @throws IOException      when the underlying reader fails
+     * @throws StorageException when the generation number is malformed
+     */
+    public long readGeneration() throws IOException, StorageException {
+        if (peek() != Constants.GENERATION_HEADER.charAt(0)) {
+            return 0;
+        }
+        expect(Constants.GENERATION_HEADER);
+        String generation = readText();
+        skipEndOfLine();
+        try {
+            return Long.parseLong(generation);
+        } catch (NumberFormatException e) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * Checks whether there are more lines to be read. Empty lines are skipped.
+     *
+     * @return true if there is at least one more line, otherwise false
+     * @throws IOException when the underlying reader fails
+     */
+    public boolean hasNext() throws IOException {
+        int c = peek();
+        while (c == '\n' || c == '\r') {
+            position++;
+            c = peek();
+        }
+        return c != END_OF_FILE;
+    }
+
+    /**
+     * Reads the type code at the start of a journal entry, together with the delimiter after it.
+     *
+     * @return the type code
+     * @throws IOException      when the underlying reader fails
+     * @throws StorageException when the entry is malformed
+     */
+    public String readTypeCode() throws IOException, StorageException {
+        String code = readText();
+        expect(Constants.ID_DELIMITER);
+        return code;
+    }
+
+    /**
+     * Reads a patient and all its records, until the end of the current line.
+     *
+     * @return the patient read
+     * @throws IOException      when the underlying reader fails
+     * @throws StorageException when the line is malformed
+     */
+    public Patient readPatient() throws IOException, StorageException {
+        String id = readText();
+        if (id.isEmpty()) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+        }
+        expect(Constants.ID_DELIMITER);
+        return new Patient(id, readRecords());
+    }
+
+    /**
+     * Reads all records until the end of the current line.
+     *
+     * @return map of records read
+     * @throws IOException      when the underlying reader fails
+     * @throws StorageException when the records are malformed
+     */
+    public RecordMap readRecords() throws IOException, StorageException {
+        RecordMap records = new RecordMap();
+        while (!isEndOfLine(peek())) {
+            LocalDate date = parseDate(readText());
+            expect(Constants.DATE_DELIMITER);
+            int[] symptoms = readDetails(Constants.SYMPTOM_DELIMITER);
+            int[] diagnoses = readDetails(Constants.DIAGNOSIS_DELIMITER);
+            int[] prescriptions = readDetails(Constants.PRESCRIPTION_DELIMITER);
+            expect(Constants.RECORDS_DELIMITER);
+            records.put(date, new Record(symptoms, diagnoses, prescriptions));
+        }
+        skipEndOfLine();
+        return records;
+    }
+
+    /**
+     * Reads the details of a single field, each of them ending with DETAILS_DELIMITER, until endDelimiter.
+     * The details are encoded through the shared dictionary, and a detail which appears twice is only kept once.
+     */
+    private int[] readDetails(String endDelimiter) throws IOException, StorageException {
+        TermDictionary dictionary = TermDictionary.getInstance();
+        int count = 0;
+        while (true) {
+            String detail = readText();
+            if (peek() == Constants.DETAILS_DELIMITER.charAt(0)) {
+                expect(Constants.DETAILS_DELIMITER);
+                if (!detail.isEmpty()) {
+                    count = addCode(count, dictionary.encode(detail));
+                }
+            } else if (detail.isEmpty()) {
+                expect(endDelimiter);
+                return Arrays.copyOf(codes, count);
+            } else {
+                throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+            }
+        }
+    }
+
+    private int addCode(int count, int code) {
+        for (int i = 0; i < count; i++) {
+            if (codes[i] == code) {
+                return count;
+            }
+        }
+        if (count == codes.length) {
+            codes = Arrays.copyOf(codes, count * 2);
+        }
+        codes[count] = code;
+        return count + 1;
+    }
+
+    /**
+     * Parses a date in the format dd/MM/yyyy. The common case is parsed by hand, which is much cheaper than going
+     * through a DateTimeFormatter.
+     */
+    private LocalDate parseDate(String dateString) throws StorageException {
+        try {
+            if (dateString.length() == 10 && dateString.charAt(2) == '/' && dateString.charAt(5) == '/') {
+                int day = parseDigits(dateString, 0, 2);
+                int month = parseDigits(dateString, 3, 5);
+                int year = parseDigits(dateString, 6, 10);
+                return LocalDate.of(year, month, day);
+            }
+            return LocalDate.parse(dateString, Common.DATE_FORMATTER);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED, e);
+        }
+    }
+
+    private int parseDigits(String string, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = string.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(string);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Reads characters until a delimiter or the end of the line is reached. The delimiter is not consumed.
+     */
+    private String readText() throws IOException {
+        text.setLength(0);
+        int c = peek();
+        while (!isEndOfLine(c) && !isDelimiterCharacter(c)) {
+            text.append((char) c);
+            position++;
+            c = peek();
+        }
+        return text.toString();
+    }
+
+    /**
+     * Consumes the expected delimiter, or throws an exception if the next characters do not match it.
+     */
+    private void expect(String delimiter) throws IOException, StorageException {
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (peek() != delimiter.charAt(i)) {
+                throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+            }
+            position++;
+        }
+    }
+
+    private void skipEndOfLine() throws IOException, StorageException {
+        int c = peek();
+        if (c == '\r') {
+            position++;
+            c = peek();
+        }
+        if (c == '\n') {
+            position++;
+        } else if (c != END_OF_FILE) {
+            throw new StorageException(StorageException.Type.FILE_CORRUPTED);
+        }
+    }
+
+    private boolean isEndOfLine(int c) {
+        return c == '\n' || c == '\r' || c == END_OF_FILE;
+    }
+
+    private boolean isDelimiterCharacter(int c) {
+        // These are the characters that cannot be entered by the user, see Parser.forbiddenSubstrings
+        return c == '~' || c == '`' || c == '%' || c == '#' || c == '@' || c == '!';
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_FILE;
+            }
+        }
+        return buffer[position];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.duke;
+
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class splits the patient list across several save files (shards) kept in a directory, instead of a single
+ * save file. Patients are assigned to shards by the first two characters of their ID, i.e. the prefix letter and the
+ * leading digit of the NRIC, so each shard holds a contiguous range of the sorted patient list.
+ *
+ * <p>Each shard is handled by its own Storage instance, with its own journal and index. When saving, only the shards
+ * touched by the changes since the last save are written. When loading, the shards are loaded in parallel.</p>
+ */
+public class ShardedStorage extends Storage {
+    private static final int SHARD_KEY_LENGTH = 2;
+
+    private final String directoryPath;
+    /**
+     * These are the storage instances of the shards, by shard key. Each instance is kept for the lifetime of this
+     * instance, as the patients loaded from a shard read their records through it.
+     */
+    private final Map<String, Storage> shards;
+
+    /**
+     * This is the constructor of the ShardedStorage class.
+     *
+     * @param directoryPath A String of the path to the directory that holds the shards
+     */
+    public ShardedStorage(String directoryPath) {
+        super(directoryPath);
+        this.directoryPath = directoryPath;
+        this.shards = new TreeMap<>();
+    }
+
+    /**
+     * Gets the key of the shard which a patient belongs to.
+     *
+     * @param id unique identifier of the patient
+     * @return the key of the shard
+     */
+    public static String getShardKey(String id) {
+        return id.length() > SHARD_KEY_LENGTH ? id.substring(0, SHARD_KEY_LENGTH) : id;
+    }
+
+    private Storage getShard(String key) {
+        return shards.computeIfAbsent(key, k -> {
+            Storage shard = new Storage(directoryPath + File.separator + k + Constants.SHARD_FILE_SUFFIX);
+            shard.setFormat(getFormat());
+            shard.setReadOnly(isReadOnly());
+            return shard;
+        });
+    }
+
+    /**
+     * Gets the patients which belong to a shard. As each shard holds a contiguous range of IDs, this is a view of
+     * the patient list rather than a copy.
+     */
+    private static SortedMap<String, Patient> getShardPatients(SortedMap<String, Patient> patientData, String key) {
+        return patientData.subMap(key, key + Character.MAX_VALUE);
+    }
+
+    /**
+     * Saves the changes made since the last save. Only the shards of the patients touched by the changes are written.
+     *
+     * @param patientData The data to be written to file if a full snapshot of a shard is needed
+     * @param changes     The changes made to patientData since the last save
+     * @throws StorageException when unusual events happen during file saving
+     */
+    @Override
+    public void save(SortedMap<String, Patient> patientData, List<JournalEntry> changes) throws StorageException {
+        createDirectory();
+        Map<String, List<JournalEntry>> dirtyShards = new LinkedHashMap<>();
+        for (JournalEntry change : changes) {
+            dirtyShards.computeIfAbsent(getShardKey(change.getID()), k -> new ArrayList<>()).add(change);
+        }
+        for (Map.Entry<String, List<JournalEntry>> dirtyShard : dirtyShards.entrySet()) {
+            String key = dirtyShard.getKey();
+            getShard(key).save(getShardPatients(patientData, key), dirtyShard.getValue());
+        }
+    }
+
+    /**
+     * Saves a full snapshot of every shard.
+     *
+     * @param patientData The data to be written to file
+     * @throws StorageException when unusual events happen during file saving
+     */
+    @Override
+    public void save(SortedMap<String, Patient> patientData) throws StorageException {
+        createDirectory();
+        for (String id : patientData.keySet()) {
+            getShard(getShardKey(id));
+        }
+        for (Map.Entry<String, Storage> shard : shards.entrySet()) {
+            shard.getValue().save(getShardPatients(patientData, shard.getKey()));
+        }
+    }
+
+    private void createDirectory() throws StorageException {
+        File directory = new File(directoryPath);
+        checkNotFile(directory);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new StorageException(StorageException.Type.FILE_CREATION_FAIL);
+        }
+    }
+
+    /**
+     * Checks that the path of the directory is not taken by a file, e.g. a save file which is not split into shards.
+     */
+    private static void checkNotFile(File directory) throws StorageException {
+        if (directory.isFile()) {
+            throw new StorageException(StorageException.Type.NOT_A_DIRECTORY);
+        }
+    }
+
+    /**
+     * Loads every shard in the directory, in parallel, and merges them into a single patient list.
+     *
+     * @return data used by Patient Manager
+     * @throws StorageException when unusual events happen during file loading, or the path of the directory is a file
+     */
+    @Override
+    public SortedMap<String, Patient> load() throws StorageException {
+        File directory = new File(directoryPath);
+        checkNotFile(directory);
+        File[] shardFiles = directory.listFiles((parent, name) -> name.endsWith(Constants.SHARD_FILE_SUFFIX));
+        if (shardFiles == null) {
+            throw new StorageException(StorageException.Type.FILE_NOT_FOUND);
+        }
+        List<Callable<SortedMap<String, Patient>>> tasks = new ArrayList<>();
+        for (File shardFile : shardFiles) {
+            String name = shardFile.getName();
+            Storage shard = getShard(name.substring(0, name.length() - Constants.SHARD_FILE_SUFFIX.length()));
+            tasks.add(shard::load);
+        }
+
+        SortedMap<String, Patient> data = new TreeMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            for (Future<SortedMap<String, Patient>> result : executor.invokeAll(tasks)) {
+                data.putAll(result.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof StorageException) {
+                throw (StorageException) e.getCause();
+            }
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e);
+        } finally {
+            executor.shutdown();
+        }
+        if (!shards.isEmpty()) {
+            // The format is detected by each shard, new shards follow the format of the existing ones
+            super.setFormat(shards.values().iterator().next().getFormat());
+        }
+        return data;
+    }
+
+    @Override
+    public void setFormat(Format format) {
+        super.setFormat(format);
+        for (Storage shard : shards.values()) {
+            shard.setFormat(format);
+        }
+    }
+
+    @Override
+    public void setReadOnly(boolean isReadOnly) {
+        super.setReadOnly(isReadOnly);
+        for (Storage shard : shards.values()) {
+            shard.setReadOnly(isReadOnly);
+        }
+    }
+}
@@ -3,27 +3,66 @@ package seedu.duke;
 import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 import seedu.duke.model.Record;
+import seedu.duke.model.RecordLoader;
+import seedu.duke.model.RecordMap;
+import seedu.duke.model.TermDictionary;
 
-import java.io.FileWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.IOException;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 /**
- * This class handles the loading and saving of data from/to a plaintext file on
- * the hard drive.
+ * This class handles the loading and saving of data from/to a file on the hard drive. The file can either be in
+ * a plaintext format or in a binary format, which is detected from the header of the file when loading.
  */
 public class Storage {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public enum Format {
+        TEXT,
+        BINARY
+    }
+
     private String filePath;
+    private Journal journal;
+    private Format format;
+    /**
+     * This is the string table of the save file if it is in the binary format, as codes in the shared dictionary.
+     */
+    private int[] termCodes;
+    /**
+     * In read-only mode, the save file is mapped into memory instead, and nothing is ever written.
+     */
+    private boolean isReadOnly;
+    private MappedSaveFile mappedFile;
+    /**
+     * This is kept open to read the records of patients which have not been loaded, so that the save file is not
+     * opened again for every patient. It is closed whenever the save file is replaced.
+     */
+    private FileChannel readChannel;
 
     /**
      * This is the constructor without a parameter. Default path will be used.
@@ -38,54 +77,245 @@ public class Storage {
      */
     public Storage(String filePath) {
         this.filePath = filePath;
+        this.journal = new Journal(this, filePath + Constants.JOURNAL_FILE_SUFFIX);
+        this.format = Format.TEXT;
+        this.termCodes = new int[0];
+        this.isReadOnly = false;
+        this.mappedFile = null;
+        this.readChannel = null;
+    }
+
+    /**
+     * Saves the changes made since the last save. The changes are appended to the journal, so the cost of saving
+     * grows with the size of the changes instead of the size of the patient list. Once the journal grows beyond
+     * JOURNAL_COMPACTION_THRESHOLD entries, it is folded back into a full snapshot of the patient list.
+     *
+     * @param patientData The data to be written to file if a full snapshot is needed
+     * @param changes     The changes made to patientData since the last save
+     * @throws StorageException when unusual events happen during file saving
+     */
+    public void save(SortedMap<String, Patient> patientData, List<JournalEntry> changes) throws StorageException {
+        boolean isCompactionDue = journal.getEntryCount() + changes.size() > Constants.JOURNAL_COMPACTION_THRESHOLD;
+        if (isCompactionDue || !Files.exists(Paths.get(filePath))) {
+            save(patientData);
+        } else {
+            journal.append(changes);
+        }
     }
 
     /**
-     * Saves a SortedMap of data into the file specified by filePath.
+     * Saves a SortedMap of data into the file specified by filePath, and clears the journal.
+     * The data is first written to a temporary file and forced to the disk, then the temporary file is moved over
+     * the save file. This way, the save file is never left half-written if the program is killed while saving.
+     * Every snapshot is tagged with a generation number one larger than the previous one, which tells the journal
+     * whether its entries have already been folded into the save file.
      *
      * @param patientData The data to be written to file
      * @throws StorageException when unusual events happen during file saving
      */
     public void save(SortedMap<String, Patient> patientData) throws StorageException {
+        long generation = readGeneration() + 1;
+        Path savePath = Paths.get(filePath);
+        Path tempPath = Paths.get(filePath + Constants.TEMP_FILE_SUFFIX);
+        PatientIndex index = new PatientIndex(generation);
+        int[] codes = new int[0];
+        for (Patient patient : patientData.values()) {
+            if (!patient.isLoaded() && !canCopyRecords(patient)) {
+                patient.getRecords();
+            }
+        }
+        try (FileOutputStream fileStream = new FileOutputStream(tempPath.toFile())) {
+            CountingOutputStream outputStream = new CountingOutputStream(
+                    new BufferedOutputStream(fileStream, BUFFER_SIZE));
+            if (format == Format.BINARY) {
+                codes = BinarySaveFile.write(outputStream, patientData.values(), generation, termCodes,
+                        this::readUnloadedRecords, index);
+            } else {
+                writeText(outputStream, patientData, generation, index);
+            }
+            outputStream.flush();
+            fileStream.getChannel().force(true);
+        } catch (FileNotFoundException e) {
+            throw new StorageException(StorageException.Type.FILE_CREATION_FAIL, e);
+        } catch (UncheckedIOException e) {
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e.getCause());
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_WRITE_FAIL, e);
+        }
         try {
-            File inFile = new File(filePath);
-            if (!inFile.exists()) {
-                inFile.createNewFile();
+            // The channel would keep reading the replaced file, and on some platforms prevents it from being replaced
+            closeReadChannel();
+            try {
+                Files.move(tempPath, savePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, savePath, StandardCopyOption.REPLACE_EXISTING);
             }
-            FileWriter fileWriter = new FileWriter(inFile.getAbsolutePath(), false);
-            StringBuffer message = new StringBuffer();
-            Set<Map.Entry<String, Patient>> patientSet = patientData.entrySet();
-            Iterator<Map.Entry<String, Patient>> patientIterator = patientSet.iterator();
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_WRITE_FAIL, e);
+        }
+        termCodes = codes;
+        relocateUnloadedPatients(patientData, index);
+        writeIndex(index);
+        journal.clear(generation);
+    }
 
-            while (patientIterator.hasNext()) {
-                Map.Entry<String, Patient> m = patientIterator.next();
+    private void writeText(CountingOutputStream outputStream, SortedMap<String, Patient> patientData,
+            long generation, PatientIndex index) throws IOException, StorageException {
+        outputStream.write((Constants.GENERATION_HEADER + generation + "\n").getBytes(StandardCharsets.UTF_8));
+        for (Patient patient : patientData.values()) {
+            outputStream.write((patient.getID() + Constants.ID_DELIMITER).getBytes(StandardCharsets.UTF_8));
+            long offset = outputStream.getCount();
+            byte[] records = readUnloadedRecords(patient);
+            if (records == null) {
+                records = convertRecordToString(patient).getBytes(StandardCharsets.UTF_8);
+            }
+            outputStream.write(records);
+            index.add(patient.getID(), offset, records.length);
+            outputStream.write('\n');
+        }
+    }
+
+    /**
+     * Checks whether the records of a patient which has not been loaded can be copied from the current save file
+     * into the next snapshot as they are, without reading them into memory.
+     */
+    private boolean canCopyRecords(Patient patient) {
+        if (patient.isLoaded() || !(patient.getRecordLoader() instanceof IndexedRecordLoader)) {
+            return false;
+        }
+        IndexedRecordLoader recordLoader = (IndexedRecordLoader) patient.getRecordLoader();
+        return recordLoader.getStorage() == this && recordLoader.getFormat() == format;
+    }
 
-                String id = (String)m.getKey();
-                Patient patient = (Patient)m.getValue();
-                String records = convertRecordToString(patient);
+    /**
+     * Reads the bytes of a patient's records from the current save file, if they can be copied as they are.
+     *
+     * @param patient the patient whose records are to be copied
+     * @return the bytes of the patient's records, or null if they have to be converted from the patient object
+     */
+    private byte[] readUnloadedRecords(Patient patient) {
+        if (!canCopyRecords(patient)) {
+            return null;
+        }
+        try {
+            return ((IndexedRecordLoader) patient.getRecordLoader()).readBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-                message.append(id + Constants.ID_DELIMITER + records + "\n");
+    /**
+     * Points the patients which have not been loaded to the location of their records in the new save file.
+     */
+    private void relocateUnloadedPatients(SortedMap<String, Patient> patientData, PatientIndex index) {
+        int i = 0;
+        for (Patient patient : patientData.values()) {
+            if (!patient.isLoaded()) {
+                IndexedRecordLoader recordLoader = (IndexedRecordLoader) patient.getRecordLoader();
+                recordLoader.relocate(format, index.getOffset(i), index.getLength(i));
             }
-            fileWriter.write(message.toString());
-            fileWriter.close();
-        } catch (FileNotFoundException e) {
-            throw new StorageException(StorageException.Type.FILE_CREATION_FAIL, e);
+            i++;
+        }
+    }
+
+    private void writeIndex(PatientIndex index) {
+        try {
+            index.write(filePath + Constants.INDEX_FILE_SUFFIX, Files.size(Paths.get(filePath)));
         } catch (IOException e) {
-            throw new StorageException(StorageException.Type.FILE_WRITE_FAIL, e);
+            // The index is only a cache, it will be rebuilt from the save file on the next load
+            new File(filePath + Constants.INDEX_FILE_SUFFIX).delete();
         }
     }
 
+    /**
+     * Reads bytes from the save file.
+     *
+     * @param offset position of the first byte to be read
+     * @param length number of bytes to be read
+     * @return the bytes read
+     * @throws IOException when the save file cannot be read
+     */
+    public byte[] readBytes(long offset, int length) throws IOException {
+        if (mappedFile != null) {
+            return mappedFile.read(offset, length);
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        FileChannel channel = getReadChannel();
+        while (buffer.hasRemaining()) {
+            // Reading at a position does not change the position of the channel, so several threads can share it
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return bytes;
+    }
+
+    private synchronized FileChannel getReadChannel() throws IOException {
+        if (readChannel == null) {
+            readChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        }
+        return readChannel;
+    }
+
+    private synchronized void closeReadChannel() throws IOException {
+        if (readChannel != null) {
+            readChannel.close();
+            readChannel = null;
+        }
+    }
+
+    /**
+     * Reads the generation number of the current save file. Save files without a generation number
+     * (i.e. written before generation numbers are introduced) and missing save files are of generation 0.
+     *
+     * @return generation number of the save file
+     */
+    private long readGeneration() {
+        try (BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(filePath))) {
+            if (isBinaryFile(inputStream)) {
+                return BinarySaveFile.readHeader(new DataInputStream(inputStream));
+            }
+            return new SaveFileReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)).readGeneration();
+        } catch (IOException | StorageException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Checks the header of the file to find out whether it is in the binary format. The stream is not advanced.
+     */
+    private static boolean isBinaryFile(BufferedInputStream inputStream) throws IOException {
+        byte[] header = new byte[BinarySaveFile.MAGIC.length];
+        inputStream.mark(header.length);
+        int length = inputStream.readNBytes(header, 0, header.length);
+        inputStream.reset();
+        return BinarySaveFile.isBinary(header, length);
+    }
+
+    /**
+     * Convert a patient object into a line of the save file, separated by delimiters.
+     *
+     * @param patient Patient object to be converted
+     * @return A string containing the patient's ID and records
+     * @throws StorageException when the patient's records cannot be read from the save file
+     */
+    public String convertPatientToString(Patient patient) throws StorageException {
+        return patient.getID() + Constants.ID_DELIMITER + convertRecordToString(patient);
+    }
+
     /**
      * Convert records in a patient object into a string, separated by delimiters.
      *
      * @param patient Patient object whose records will be converted
      * @return A string to be used by the save() method
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    public String convertRecordToString(Patient patient) {
+    public String convertRecordToString(Patient patient) throws StorageException {
         StringBuilder stringBuilder = new StringBuilder();
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         for (Map.Entry<LocalDate, Record> record : records.entrySet()) {
-            String localDate = record.getKey().format(DateTimeFormatter.ofPattern(Constants.DATE_PATTERN));
+            String localDate = Common.formatDate(record.getKey());
             Record patientRecord = record.getValue();
 
             stringBuilder.append(localDate + Constants.DATE_DELIMITER + patientRecord.printFileConsultationDetail());
@@ -98,31 +328,57 @@ public class Storage {
     //@@author leowxx
     /**
      * Reads from the data file and converts the data into a format usable by Patient Manager.
+     * Only the patients' IDs are read at this point, using the patient index if it is up to date. The records of
+     * each patient are read from the data file when they are first needed.
+     * Changes recorded in the journal are applied on top of the data file.
+     * In read-only mode, the data file is mapped into memory, and the records are decoded from the mapping.
      *
      * @return data used by Patient Manager
      * @throws StorageException when unusual events happen during file loading
      */
     public SortedMap<String, Patient> load() throws StorageException {
         SortedMap<String, Patient> data = new TreeMap<>();
+        long generation = readGeneration();
         try {
-            File inFile = new File(filePath);
-            // If inFile does not exist, FNF Exception will be triggered and captured below
-            Scanner scanner = new Scanner(inFile);
-            while (scanner.hasNextLine()) {
-                String[] retrievedPatientsData = scanner.nextLine().split(Constants.ID_DELIMITER);
-                String id = retrievedPatientsData[0];
-                Patient patient;
-                if (retrievedPatientsData.length > 1) {
-                    patient = new Patient(id, convertStringToRecords(retrievedPatientsData[1]));
-                } else {
-                    patient = new Patient(id);
+            closeReadChannel();
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e);
+        }
+        // If the file does not exist, FNF Exception will be triggered and captured below
+        try (BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(filePath), BUFFER_SIZE)) {
+            format = isBinaryFile(inputStream) ? Format.BINARY : Format.TEXT;
+            termCodes = new int[0];
+            PatientIndex index = PatientIndex.read(
+                    filePath + Constants.INDEX_FILE_SUFFIX, generation, Files.size(Paths.get(filePath)));
+            boolean isIndexOutdated = index == null;
+            if (format == Format.BINARY) {
+                CountingInputStream countingStream = new CountingInputStream(inputStream);
+                DataInputStream input = new DataInputStream(countingStream);
+                BinarySaveFile.readHeader(input);
+                termCodes = TermDictionary.getInstance().encode(BinarySaveFile.readStringTable(input));
+                if (isIndexOutdated) {
+                    index = BinarySaveFile.scanPatients(countingStream, input, generation);
                 }
-                data.put(id, patient);
+            } else if (isIndexOutdated) {
+                index = PatientIndex.scanText(inputStream, generation);
+            }
+            if (isIndexOutdated && !isReadOnly) {
+                writeIndex(index);
+            }
+            mappedFile = isReadOnly ? new MappedSaveFile(filePath) : null;
+            for (int i = 0; i < index.size(); i++) {
+                RecordLoader recordLoader = new IndexedRecordLoader(
+                        this, format, index.getOffset(i), index.getLength(i));
+                // IDs are unpacked from the index here, as the patient list is keyed by strings
+                String id = index.getID(i);
+                data.put(id, new Patient(id, recordLoader));
             }
-            scanner.close();
         } catch (FileNotFoundException e) {
             throw new StorageException(StorageException.Type.FILE_NOT_FOUND, e);
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e);
         }
+        journal.replay(data, generation);
         return data;
     }
 
@@ -131,66 +387,65 @@ public class Storage {
      * Converts lines read from the data file into records used by Patient Manager.
      *
      * @param recordString line of text read from data file
-     * @return TreeMap of records converted from recordString
+     * @return map of records converted from recordString
+     * @throws StorageException when recordString is malformed
      */
-    public TreeMap<LocalDate, Record> convertStringToRecords(String recordString) {
-        TreeMap<LocalDate, Record> records = new TreeMap<>();
-
-        String[] recordsPresent = recordString.split(Constants.RECORDS_DELIMITER);
-
-        for (String r : recordsPresent) {
-            String[] splitString = r.split(Constants.DATE_DELIMITER);
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(Constants.DATE_PATTERN);
-            final LocalDate dt = LocalDate.parse(splitString[0], dateTimeFormatter);
-
-            LinkedHashSet<String> prescriptions = new LinkedHashSet<>();
-            LinkedHashSet<String> symptoms = new LinkedHashSet<>();
-            LinkedHashSet<String> diagnoses = new LinkedHashSet<>();
-
-            String[] symptomSplitString = splitString[1].split(Constants.SYMPTOM_DELIMITER);
-            if (!symptomSplitString[0].isEmpty()) {
-                symptoms = splitDetailString(symptomSplitString[0]);
-            }
-
-            String[] diagnosisSplitString = symptomSplitString[1].split(Constants.DIAGNOSIS_DELIMITER);
-            if (!diagnosisSplitString[0].isEmpty()) {
-                diagnoses = splitDetailString(diagnosisSplitString[0]);
-            }
-
-            String[] prescriptionSplitString = diagnosisSplitString[1].split(Constants.PRESCRIPTION_DELIMITER);
-            if (prescriptionSplitString.length > 0) {
-                prescriptions = splitDetailString(prescriptionSplitString[0]);
-            }
+    public RecordMap convertStringToRecords(String recordString) throws StorageException {
+        try (SaveFileReader reader = new SaveFileReader(new StringReader(recordString))) {
+            return reader.readRecords();
+        } catch (IOException e) {
+            throw new StorageException(StorageException.Type.FILE_READ_FAIL, e);
+        }
+    }
 
-            Record record = new Record(symptoms, diagnoses, prescriptions);
+    //@@author fsgmhoward
+    /**
+     * This is the getter for filePath.
+     * @return the file path of save file used by this storage instance
+     */
+    public String getFilePath() {
+        return filePath;
+    }
 
-            records.put(dt, record);
-        }
+    /**
+     * This is the getter for the format of the save file.
+     * @return the format which the save file is written in
+     */
+    public Format getFormat() {
+        return format;
+    }
 
-        return records;
+    /**
+     * This sets the format which the save file is written in. The format will be used from the next snapshot onwards.
+     * @param format the format to be used
+     */
+    public void setFormat(Format format) {
+        this.format = format;
     }
 
     /**
-     * This function splits a string using DETAILS_DELIMITER, then create a new arraylist and add it in.
-     * @param stringToSplit the string that is to be splitted using DETAILS_DELIMITER
-     * @return a LinkedHashSet containing the data
+     * Checks whether the save file is opened in read-only mode.
+     * @return true if nothing may be written to the save file, otherwise false
      */
-    private LinkedHashSet<String> splitDetailString(String stringToSplit) {
-        String[] stringArray = stringToSplit.split(Constants.DETAILS_DELIMITER);
-        LinkedHashSet<String> arrayList = new LinkedHashSet<>();
-        for (String string : stringArray) {
-            arrayList.add(string);
-        }
+    public boolean isReadOnly() {
+        return isReadOnly;
+    }
 
-        return arrayList;
+    /**
+     * This sets whether the save file is opened in read-only mode. It should be set before loading, as the save file
+     * is only mapped into memory when it is loaded.
+     * @param isReadOnly true if nothing may be written to the save file
+     */
+    public void setReadOnly(boolean isReadOnly) {
+        this.isReadOnly = isReadOnly;
     }
 
-    //@@author fsgmhoward
     /**
-     * This is the getter for filePath.
-     * @return the file path of save file used by this storage instance
+     * This is the getter for the string table of the save file.
+     * @return the codes of the strings in the string table if the save file is in the binary format, otherwise an
+     *     empty array
      */
-    public String getFilePath() {
-        return filePath;
+    public int[] getTermCodes() {
+        return termCodes;
     }
 }
@@ -2,20 +2,48 @@ package seedu.duke;
 
 import seedu.duke.exception.InvalidInputException;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 /**
  * This class handles all UI-related functions.
+ * By default, every message is printed to System.out right away. The output can also be buffered, in which case
+ * the messages are written out once per command, or only when the buffer is full in batch mode.
  */
 public class Ui {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
     private Scanner userInputScanner;
+    /**
+     * This is null if messages are printed to System.out right away.
+     */
+    private PrintStream output;
+    private boolean isBatch;
 
     /**
      * Initialize a UI handler.
      */
     public Ui() {
         userInputScanner = new Scanner(System.in);
+        output = null;
+        isBatch = false;
+    }
+
+    /**
+     * Initialize a UI handler with buffered output.
+     *
+     * @param outputStream the stream to write the messages to
+     * @param isBatch      if true, messages are only written out when the buffer is full or when the UI is closed,
+     *                     otherwise they are written out once per command
+     */
+    public Ui(OutputStream outputStream, boolean isBatch) {
+        this();
+        // Like System.out, a PrintStream does not throw when the output is closed (e.g. a closed pipe)
+        this.output = new PrintStream(new BufferedOutputStream(outputStream, OUTPUT_BUFFER_SIZE), false);
+        this.isBatch = isBatch;
     }
 
     /**
@@ -24,6 +52,8 @@ public class Ui {
      * @return user input
      */
     public String readInput() throws InvalidInputException {
+        // The user should see the output of the last command before typing the next one
+        flush();
         String userInput = null;
         try {
             userInput = userInputScanner.nextLine();
@@ -40,13 +70,37 @@ public class Ui {
         userInputScanner.close();
     }
 
+    /**
+     * Writes out the buffered messages. This should be called at the end of each command.
+     * It does nothing if the output is not buffered, or in batch mode.
+     */
+    public void flush() {
+        if (output != null && !isBatch) {
+            output.flush();
+        }
+    }
+
+    /**
+     * Writes out all buffered messages, even in batch mode, and closes scanner.
+     */
+    public void close() {
+        if (output != null) {
+            output.flush();
+        }
+        closeScanner();
+    }
+
     /**
      * Prints the String specified in @param.
      *
      * @param message String to be printed
      */
     public void printMessage(String message) {
-        System.out.println(message);
+        if (output == null) {
+            System.out.println(message);
+        } else {
+            output.println(message);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package seedu.duke.command;
 import seedu.duke.Common;
 import seedu.duke.Data;
 import seedu.duke.Ui;
+import seedu.duke.exception.DataException;
 import seedu.duke.exception.InvalidInputException;
 import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
@@ -23,12 +24,14 @@ public class AddCommand extends Command {
     }
 
     @Override
-    public void execute() throws InvalidInputException, StorageException {
+    public void execute() throws InvalidInputException, DataException, StorageException {
 
+        data.checkWritable();
         String id = arguments.get("payload");
         id = id.toUpperCase();
         // Checks if ID is valid
         Common.checkID(id);
+        data.checkStorable(id);
         if (data.getPatients().containsKey(id)) {
             throw new InvalidInputException(InvalidInputException.Type.PATIENT_EXISTED);
         }
@@ -1,10 +1,14 @@
 package seedu.duke.command;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 
+import seedu.duke.Common;
+import seedu.duke.Constants;
 import seedu.duke.Data;
 import seedu.duke.Ui;
 import seedu.duke.exception.BaseException;
+import seedu.duke.exception.InvalidInputException;
 
 /* Adapted from https://github.com/fsgmhoward/ip/blob/master/src/main/java/duke/command/Command.java */
 /**
@@ -42,4 +46,37 @@ public abstract class Command {
      * This is where the actual program logic of each command is stored.
      */
     public abstract void execute() throws BaseException;
+
+    /**
+     * Gets an optional date argument.
+     * @param key Key of the argument
+     * @return The date, or null if the argument is not given
+     * @throws InvalidInputException If the date is not valid
+     */
+    protected LocalDate getDate(String key) throws InvalidInputException {
+        if (!arguments.containsKey(key)) {
+            return null;
+        }
+        return Common.parseDate(arguments.get(key));
+    }
+
+    /**
+     * Gets the optional maximum number of results to be shown, given with /limit.
+     * @return The limit, or Integer.MAX_VALUE if the argument is not given
+     * @throws InvalidInputException If the limit is not a positive number
+     */
+    protected int getLimit() throws InvalidInputException {
+        if (!arguments.containsKey(Constants.LIMIT_KEY)) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            int limit = Integer.parseInt(arguments.get(Constants.LIMIT_KEY));
+            if (limit <= 0) {
+                throw new NumberFormatException(arguments.get(Constants.LIMIT_KEY));
+            }
+            return limit;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_LIMIT, e);
+        }
+    }
 }
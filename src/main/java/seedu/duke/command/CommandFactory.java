@@ -0,0 +1,25 @@
+package seedu.duke.command;
+
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.exception.UnknownException;
+
+import java.util.HashMap;
+
+/**
+ * This creates instances of a command class. The constructors of command classes can be used as factories directly,
+ * e.g. AddCommand::new.
+ */
+@FunctionalInterface
+public interface CommandFactory {
+    /**
+     * Creates an instance of the command.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     * @return the command instance
+     * @throws UnknownException when the command cannot be created (e.g. dev bugs)
+     */
+    Command create(Ui ui, Data data, HashMap<String, String> arguments) throws UnknownException;
+}
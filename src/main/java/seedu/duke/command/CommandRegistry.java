@@ -0,0 +1,57 @@
+package seedu.duke.command;
+
+import seedu.duke.exception.InvalidInputException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This maps command names to the factories of their command classes. The built-in commands are registered once,
+ * when this class is loaded, so looking up a command is a single hash map lookup. Commands which are not registered
+ * are unknown to the parser.
+ */
+public class CommandRegistry {
+    private static final Map<String, CommandFactory> factories = new ConcurrentHashMap<>();
+
+    static {
+        register("add", AddCommand::new);
+        register("convert", ConvertCommand::new);
+        register("current", CurrentCommand::new);
+        register("delete", DeleteCommand::new);
+        register("exit", ExitCommand::new);
+        register("export", ExportCommand::new);
+        register("find", FindCommand::new);
+        register("search", SearchCommand::new);
+        register("help", HelpCommand::new);
+        register("import", ImportCommand::new);
+        register("list", ListCommand::new);
+        register("load", LoadCommand::new);
+        register("record", RecordCommand::new);
+        register("retrieve", RetrieveCommand::new);
+    }
+
+    /**
+     * Registers a command.
+     *
+     * @param command name of the command, in lowercase
+     * @param factory factory which creates instances of the command
+     */
+    public static void register(String command, CommandFactory factory) {
+        factories.put(command, factory);
+    }
+
+    /**
+     * Gets the factory of a command.
+     *
+     * @param command name of the command, in lowercase
+     * @return the factory which creates instances of the command
+     * @throws InvalidInputException when there is no such command
+     */
+    public static CommandFactory get(String command) throws InvalidInputException {
+        CommandFactory factory = factories.get(command);
+        if (factory == null) {
+            throw new InvalidInputException(InvalidInputException.Type.UNKNOWN_COMMAND);
+        }
+        return factory;
+    }
+}
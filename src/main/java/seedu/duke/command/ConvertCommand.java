@@ -0,0 +1,38 @@
+package seedu.duke.command;
+
+import seedu.duke.Constants;
+import seedu.duke.Data;
+import seedu.duke.Storage;
+import seedu.duke.Ui;
+import seedu.duke.exception.DataException;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+
+import java.util.HashMap;
+
+public class ConvertCommand extends Command {
+    /**
+     * This is the constructor of the command. Arguments are passed to parent class.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     */
+    public ConvertCommand(Ui ui, Data data, HashMap<String, String> arguments) {
+        super(ui, data, arguments);
+    }
+
+    @Override
+    public void execute() throws InvalidInputException, DataException, StorageException {
+        data.checkWritable();
+        String formatString = arguments.get(Constants.PAYLOAD_KEY).toUpperCase();
+        Storage.Format format;
+        try {
+            format = Storage.Format.valueOf(formatString);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_FORMAT, e);
+        }
+        data.convertFile(format);
+        ui.printMessage("The save file has been converted to the " + format.name().toLowerCase() + " format.");
+    }
+}
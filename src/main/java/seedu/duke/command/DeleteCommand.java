@@ -27,6 +27,7 @@ public class DeleteCommand extends Command {
 
     @Override
     public void execute() throws InvalidInputException, DataException, StorageException {
+        data.checkWritable();
         boolean isDeletePatient = arguments.containsKey(Constants.PATIENT_KEY);
         boolean isDeleteRecord = arguments.containsKey(Constants.RECORD_KEY);
         boolean neitherSpecified = !isDeletePatient && !isDeleteRecord;
@@ -56,9 +57,10 @@ public class DeleteCommand extends Command {
      * Deletes a patient from the list.
      *
      * @param id Unique identifier of the patient to be deleted
-     * @throws DataException if the patient to be deleted does not exist
+     * @throws DataException    if the patient to be deleted does not exist
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    private void deletePatient(String id) throws DataException {
+    private void deletePatient(String id) throws DataException, StorageException {
         data.deletePatient(id);
         ui.printMessage("Patient " + id + " has been deleted!");
     }
@@ -67,9 +69,10 @@ public class DeleteCommand extends Command {
      * Deletes a record a patient's consultation details.
      *
      * @param date date of record that is being deleted
-     * @throws DataException if the patient does not have any records from the specified date
+     * @throws DataException    if the patient does not have any records from the specified date
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    private void deleteRecord(LocalDate date) throws DataException {
+    private void deleteRecord(LocalDate date) throws DataException, StorageException {
         data.deleteRecord(date);
         ui.printMessage("Record for " + Common.formatDate(date) + " has been deleted.");
     }
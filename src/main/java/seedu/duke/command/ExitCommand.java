@@ -3,6 +3,7 @@ package seedu.duke.command;
 import seedu.duke.Constants;
 import seedu.duke.Data;
 import seedu.duke.Ui;
+import seedu.duke.exception.StorageException;
 
 import java.util.HashMap;
 
@@ -22,7 +23,9 @@ public class ExitCommand extends Command {
     }
 
     @Override
-    public void execute() {
+    public void execute() throws StorageException {
+        // Changes which are left to the background thread or to the end of the program are written before exiting
+        data.flush();
         ui.printMessage(Constants.EXIT_MESSAGE);
     }
 }
@@ -0,0 +1,66 @@
+package seedu.duke.command;
+
+import seedu.duke.Constants;
+import seedu.duke.Data;
+import seedu.duke.PatientExporter;
+import seedu.duke.Ui;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+
+import java.util.HashMap;
+
+public class ExportCommand extends Command {
+    /**
+     * This is the constructor of the command. Arguments are passed to parent class.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     */
+    public ExportCommand(Ui ui, Data data, HashMap<String, String> arguments) {
+        super(ui, data, arguments);
+    }
+
+    @Override
+    public void execute() throws InvalidInputException, StorageException {
+        assert arguments.containsKey(Constants.PAYLOAD_KEY) : "Arguments must contain a value for the `payload` key";
+        String filePath = arguments.get(Constants.PAYLOAD_KEY);
+        if (filePath.isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_EXPORT_FILE);
+        }
+        PatientExporter exporter = new PatientExporter(getFormat());
+        exporter.setIDRange(getID(Constants.START_KEY), getID(Constants.END_KEY));
+        exporter.setDateRange(getDate(Constants.FROM_KEY), getDate(Constants.TO_KEY));
+        // This keeps a background save from changing the patient list while it is being written out
+        synchronized (data) {
+            exporter.export(data.getPatients(), filePath);
+        }
+        ui.printMessage(String.format(Constants.EXPORT_SUMMARY_MESSAGE, exporter.getPatientCount(),
+                exporter.getRecordCount(), filePath));
+    }
+
+    private PatientExporter.Format getFormat() throws InvalidInputException {
+        if (!arguments.containsKey(Constants.FORMAT_KEY)) {
+            return PatientExporter.Format.CSV;
+        }
+        try {
+            return PatientExporter.Format.valueOf(arguments.get(Constants.FORMAT_KEY).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_EXPORT_FORMAT, e);
+        }
+    }
+
+    /**
+     * Gets a bound of the IC number range. The bound does not need to be a valid IC number, e.g. "S1" can be used.
+     */
+    private String getID(String key) throws InvalidInputException {
+        if (!arguments.containsKey(key)) {
+            return null;
+        }
+        String id = arguments.get(key);
+        if (id.isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_NRIC);
+        }
+        return id.toUpperCase();
+    }
+}
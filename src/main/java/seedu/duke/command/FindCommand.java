@@ -0,0 +1,71 @@
+package seedu.duke.command;
+
+import seedu.duke.Common;
+import seedu.duke.Constants;
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.RecordIndex;
+
+import java.util.HashMap;
+import java.util.List;
+
+public class FindCommand extends Command {
+    /**
+     * This is the constructor of the command. Arguments are passed to parent class.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     */
+    public FindCommand(Ui ui, Data data, HashMap<String, String> arguments) {
+        super(ui, data, arguments);
+    }
+
+    @Override
+    public void execute() throws InvalidInputException, StorageException {
+        assert arguments.containsKey(Constants.PAYLOAD_KEY) : "Arguments must contain a value for the `payload` key";
+        RecordIndex.Field field = null;
+        String detail = null;
+        int detailCount = 0;
+        if (!arguments.get(Constants.PAYLOAD_KEY).isEmpty()) {
+            detail = arguments.get(Constants.PAYLOAD_KEY);
+            detailCount++;
+        }
+        if (arguments.containsKey(Constants.SYMPTOM_KEY)) {
+            field = RecordIndex.Field.SYMPTOM;
+            detail = arguments.get(Constants.SYMPTOM_KEY);
+            detailCount++;
+        }
+        if (arguments.containsKey(Constants.DIAGNOSIS_KEY)) {
+            field = RecordIndex.Field.DIAGNOSIS;
+            detail = arguments.get(Constants.DIAGNOSIS_KEY);
+            detailCount++;
+        }
+        if (arguments.containsKey(Constants.PRESCRIPTION_KEY)) {
+            field = RecordIndex.Field.PRESCRIPTION;
+            detail = arguments.get(Constants.PRESCRIPTION_KEY);
+            detailCount++;
+        }
+        if (detailCount != 1 || detail.isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_FIND_ARGUMENTS);
+        }
+        int limit = getLimit();
+
+        List<RecordIndex.Visit> visits = data.findRecords(field, detail, getDate(Constants.FROM_KEY),
+                getDate(Constants.TO_KEY));
+        if (visits.isEmpty()) {
+            ui.printMessage(String.format(Constants.FIND_NO_VISITS_MESSAGE, detail));
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        message.append(String.format(Constants.FIND_VISITS_MESSAGE, visits.size(), detail));
+        for (int i = 0; i < visits.size() && i < limit; i++) {
+            RecordIndex.Visit visit = visits.get(i);
+            message.append(System.lineSeparator()).append(i + 1).append(". ")
+                    .append(Common.formatDate(visit.getDate())).append(' ').append(visit.getID());
+        }
+        ui.printMessage(message.toString());
+    }
+}
@@ -52,6 +52,21 @@ public class HelpCommand extends Command {
                 case "current":
                     ui.printMessage(Constants.CURRENT_INFO_MESSAGE);
                     break;
+                case "convert":
+                    ui.printMessage(Constants.CONVERT_INFO_MESSAGE);
+                    break;
+                case "find":
+                    ui.printMessage(Constants.FIND_INFO_MESSAGE);
+                    break;
+                case "search":
+                    ui.printMessage(Constants.SEARCH_INFO_MESSAGE);
+                    break;
+                case "import":
+                    ui.printMessage(Constants.IMPORT_INFO_MESSAGE);
+                    break;
+                case "export":
+                    ui.printMessage(Constants.EXPORT_INFO_MESSAGE);
+                    break;
                 case "help":
                     ui.printMessage(Constants.HELP_INFO_MESSAGE);
                     break;
@@ -0,0 +1,48 @@
+package seedu.duke.command;
+
+import seedu.duke.Constants;
+import seedu.duke.CsvImporter;
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.exception.DataException;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+
+import java.util.HashMap;
+import java.util.List;
+
+public class ImportCommand extends Command {
+    /**
+     * This is the constructor of the command. Arguments are passed to parent class.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     */
+    public ImportCommand(Ui ui, Data data, HashMap<String, String> arguments) {
+        super(ui, data, arguments);
+    }
+
+    @Override
+    public void execute() throws InvalidInputException, DataException, StorageException {
+        assert arguments.containsKey(Constants.PAYLOAD_KEY) : "Arguments must contain a value for the `payload` key";
+        data.checkWritable();
+        String filePath = arguments.get(Constants.PAYLOAD_KEY);
+        if (filePath.isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_IMPORT_FILE);
+        }
+        CsvImporter importer = new CsvImporter();
+        importer.read(filePath);
+        List<String> errors = importer.getErrors();
+        for (int i = 0; i < errors.size() && i < Constants.IMPORT_MAX_ERRORS_SHOWN; i++) {
+            ui.printMessage(errors.get(i));
+        }
+        for (String id : importer.getPatients().keySet()) {
+            data.checkStorable(id);
+        }
+        // All rows are written in a single snapshot, instead of a save for every row
+        int addedCount = data.importPatients(importer.getPatients());
+        ui.printMessage(String.format(Constants.IMPORT_SUMMARY_MESSAGE, importer.getRowCount() - errors.size(),
+                addedCount, data.getPatients().size(), errors.size()));
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.duke.command;
 
+import seedu.duke.Common;
 import seedu.duke.Constants;
 import seedu.duke.Data;
 import seedu.duke.Ui;
+import seedu.duke.exception.InvalidInputException;
 import seedu.duke.model.Patient;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.SortedMap;
 
 public class ListCommand extends Command {
+    // Each line is a number and an IC number, plus the line separator
+    private static final int LINE_LENGTH = 16;
+
     /**
      * This is the constructor of the command. Arguments are passed to parent class.
      *
@@ -21,23 +27,68 @@ public class ListCommand extends Command {
     }
 
     @Override
-    public void execute() {
+    public void execute() throws InvalidInputException {
+        String prefix = arguments.getOrDefault(Constants.PAYLOAD_KEY, "").toUpperCase();
+        String start = getID(Constants.START_KEY);
+        String end = getID(Constants.END_KEY);
+        String after = getID(Constants.AFTER_KEY);
+        int limit = getLimit();
 
         SortedMap<String, Patient> patients = data.getPatients();
-        int patientCount = 0;
-        String list = "List of patients (in alphanumeric order):";
+        if (patients.isEmpty()) {
+            // There is no patient in the list. We just inform the user about it.
+            ui.printMessage(Constants.EMPTY_LIST_MESSAGE);
+            return;
+        }
+        // The smallest string after an ID, so that the ID itself is included in (or excluded from) the range
+        String lowerBound = max(max(prefix, start), after == null ? null : after + Character.MIN_VALUE);
+        String upperBound = min(prefix.isEmpty() ? null : prefix + Character.MAX_VALUE,
+                end == null ? null : end + Character.MIN_VALUE);
+        Iterator<String> patientIDs = Common.getRange(patients, lowerBound, upperBound).keySet().iterator();
 
-        for (String patientID : patients.keySet()) {
-            patientCount = patientCount + 1;
-            list += System.lineSeparator() + patientCount + ". " + patientID;
+        int patientCount = 0;
+        String lastID = null;
+        StringBuilder list = new StringBuilder(LINE_LENGTH * Math.min(limit, patients.size()));
+        list.append("List of patients (in alphanumeric order):");
+        while (patientCount < limit && patientIDs.hasNext()) {
+            lastID = patientIDs.next();
+            patientCount++;
+            list.append(System.lineSeparator()).append(patientCount).append(". ").append(lastID);
         }
 
         if (patientCount == 0) {
-            // There is no patient in the list. We just inform the user about it.
-            ui.printMessage(Constants.EMPTY_LIST_MESSAGE);
-        } else {
-            assert list != "" : "List should not be empty";
-            ui.printMessage(list);
+            ui.printMessage(Constants.NO_MATCHING_PATIENTS_MESSAGE);
+            return;
+        }
+        if (patientIDs.hasNext()) {
+            // Only the end of this page is needed to continue, so the next page costs as little as this one
+            list.append(System.lineSeparator()).append(String.format(Constants.LIST_NEXT_PAGE_MESSAGE, lastID));
+        }
+        ui.printMessage(list.toString());
+    }
+
+    private static String max(String first, String second) {
+        if (first == null || first.isEmpty()) {
+            return second;
+        }
+        return second == null || first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static String min(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private String getID(String key) throws InvalidInputException {
+        if (!arguments.containsKey(key)) {
+            return null;
+        }
+        String id = arguments.get(key);
+        if (id.isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_NRIC);
         }
+        return id.toUpperCase();
     }
 }
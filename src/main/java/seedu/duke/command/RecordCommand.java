@@ -29,6 +29,7 @@ public class RecordCommand extends Command {
     public void execute() throws InvalidInputException, DataException, StorageException {
         assert ui != null : "Ui must not be null";
         assert arguments.containsKey("payload") : "Arguments must contain a value for the `payload` key";
+        data.checkWritable();
         String dateString = arguments.get(Constants.PAYLOAD_KEY);
         LocalDate date = Common.parseDate(dateString);
         String recentDetails = addRecord(date);
@@ -36,7 +37,7 @@ public class RecordCommand extends Command {
         data.saveFile();
     }
 
-    private String addRecord(LocalDate date) throws DataException {
+    private String addRecord(LocalDate date) throws DataException, StorageException {
         String symptom = null;
         String diagnosis = null;
         String prescription = null;
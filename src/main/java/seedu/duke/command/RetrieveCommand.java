@@ -6,6 +6,7 @@ import seedu.duke.Data;
 import seedu.duke.Ui;
 import seedu.duke.exception.DataException;
 import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -24,12 +25,21 @@ public class RetrieveCommand extends Command {
     }
 
     @Override
-    public void execute() throws InvalidInputException, DataException {
+    public void execute() throws InvalidInputException, DataException, StorageException {
         assert ui != null : "Ui must not be null";
         assert arguments.containsKey("payload") : "Arguments must contain a value for the `payload` key";
         String records = null;
         String dateString = arguments.get(Constants.PAYLOAD_KEY);
-        if (dateString.isEmpty()) {
+        boolean isLast = arguments.containsKey(Constants.LAST_KEY);
+        boolean isRange = arguments.containsKey(Constants.FROM_KEY) || arguments.containsKey(Constants.TO_KEY);
+        if ((!dateString.isEmpty() && (isLast || isRange)) || (isLast && isRange)) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_RETRIEVE_ARGUMENTS);
+        }
+        if (isLast) {
+            records = data.getLastRecords(getCount());
+        } else if (isRange) {
+            records = data.getRecords(getDate(Constants.FROM_KEY), getDate(Constants.TO_KEY));
+        } else if (dateString.isEmpty()) {
             records = data.getRecords();
         } else {
             LocalDate date = Common.parseDate(dateString);
@@ -39,4 +49,15 @@ public class RetrieveCommand extends Command {
         ui.printMessage(records);
     }
 
+    private int getCount() throws InvalidInputException {
+        try {
+            int count = Integer.parseInt(arguments.get(Constants.LAST_KEY));
+            if (count <= 0) {
+                throw new NumberFormatException(arguments.get(Constants.LAST_KEY));
+            }
+            return count;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_RECORD_COUNT, e);
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.duke.command;
+
+import seedu.duke.Common;
+import seedu.duke.Constants;
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.RecordIndex;
+
+import java.util.HashMap;
+import java.util.List;
+
+public class SearchCommand extends Command {
+    /**
+     * This is the constructor of the command. Arguments are passed to parent class.
+     *
+     * @param ui        Instance of Ui class, for UI input/output
+     * @param data      Instance of Data class, for manipulating patient list and read/write miscellaneous config
+     * @param arguments Arguments decomposed from the full command given by the user
+     */
+    public SearchCommand(Ui ui, Data data, HashMap<String, String> arguments) {
+        super(ui, data, arguments);
+    }
+
+    @Override
+    public void execute() throws InvalidInputException, StorageException {
+        assert arguments.containsKey(Constants.PAYLOAD_KEY) : "Arguments must contain a value for the `payload` key";
+        String query = arguments.get(Constants.PAYLOAD_KEY);
+        if (RecordIndex.tokenize(query).isEmpty()) {
+            throw new InvalidInputException(InvalidInputException.Type.INVALID_SEARCH_QUERY);
+        }
+        List<RecordIndex.Visit> visits = data.searchRecords(query, getDate(Constants.FROM_KEY),
+                getDate(Constants.TO_KEY), getLimit());
+        if (visits.isEmpty()) {
+            ui.printMessage(String.format(Constants.SEARCH_NO_VISITS_MESSAGE, query));
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        message.append(String.format(Constants.SEARCH_VISITS_MESSAGE, query));
+        for (int i = 0; i < visits.size(); i++) {
+            RecordIndex.Visit visit = visits.get(i);
+            message.append(System.lineSeparator()).append(i + 1).append(". ")
+                    .append(Common.formatDate(visit.getDate())).append(' ').append(visit.getID());
+        }
+        ui.printMessage(message.toString());
+    }
+}
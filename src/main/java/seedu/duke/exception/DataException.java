@@ -8,7 +8,9 @@ public class DataException extends BaseException {
         NO_PATIENT_LOADED(Constants.DATA_NO_PATIENT_LOADED),
         PATIENT_NOT_FOUND(Constants.DATA_PATIENT_NOT_FOUND),
         EMPTY_DESCRIPTION(Constants.DATA_EMPTY_DESCRIPTION),
-        NO_RECORD_FOUND(Constants.DATA_NO_RECORD_FOUND);
+        NO_RECORD_FOUND(Constants.DATA_NO_RECORD_FOUND),
+        READ_ONLY(Constants.DATA_READ_ONLY),
+        ID_NOT_STORABLE(Constants.DATA_ID_NOT_STORABLE);
 
         public final String message;
 
@@ -18,7 +18,17 @@ public class InvalidInputException extends BaseException {
         EMPTY_DATE_ARGUMENT(Constants.INVALID_INPUT_EMPTY_DATE_ARGUMENT),
         PATIENT_NOT_FOUND(Constants.INVALID_INPUT_PATIENT_NOT_FOUND),
         END_OF_FILE(Constants.INVALID_INPUT_END_OF_FILE),
-        FORBIDDEN_SUBSTRING(Constants.INVALID_INPUT_FORBIDDEN_SUBSTRING);
+        FORBIDDEN_SUBSTRING(Constants.INVALID_INPUT_FORBIDDEN_SUBSTRING),
+        INVALID_FORMAT(Constants.INVALID_INPUT_INVALID_FORMAT),
+        INVALID_IMPORT_FILE(Constants.INVALID_INPUT_INVALID_IMPORT_FILE),
+        INVALID_IMPORT_ROW(Constants.INVALID_INPUT_INVALID_IMPORT_ROW),
+        INVALID_EXPORT_FILE(Constants.INVALID_INPUT_INVALID_EXPORT_FILE),
+        INVALID_EXPORT_FORMAT(Constants.INVALID_INPUT_INVALID_EXPORT_FORMAT),
+        INVALID_LIMIT(Constants.INVALID_INPUT_INVALID_LIMIT),
+        INVALID_RECORD_COUNT(Constants.INVALID_INPUT_INVALID_RECORD_COUNT),
+        INVALID_RETRIEVE_ARGUMENTS(Constants.INVALID_INPUT_INVALID_RETRIEVE_ARGUMENTS),
+        INVALID_FIND_ARGUMENTS(Constants.INVALID_INPUT_INVALID_FIND_ARGUMENTS),
+        INVALID_SEARCH_QUERY(Constants.INVALID_INPUT_INVALID_SEARCH_QUERY);
 
         public final String message;
 
@@ -7,7 +7,10 @@ public class StorageException extends BaseException {
     public enum Type {
         FILE_CREATION_FAIL(Constants.STORAGE_FILE_CREATION_FAIL),
         FILE_WRITE_FAIL(Constants.STORAGE_FILE_WRITE_FAIL),
-        FILE_NOT_FOUND(Constants.STORAGE_FILE_NOT_FOUND);
+        FILE_NOT_FOUND(Constants.STORAGE_FILE_NOT_FOUND),
+        FILE_READ_FAIL(Constants.STORAGE_FILE_READ_FAIL),
+        FILE_CORRUPTED(Constants.STORAGE_FILE_CORRUPTED),
+        NOT_A_DIRECTORY(Constants.STORAGE_NOT_A_DIRECTORY);
         
         public final String message;
 
@@ -16,6 +19,8 @@ public class StorageException extends BaseException {
         }
     }
 
+    public final Type type;
+
     /**
      * This is the constructor of the exception class for unexpected outcome of saving/loading events.
      * @param type type of unexpected outcome during loading/saving
@@ -32,5 +37,6 @@ public class StorageException extends BaseException {
      */
     public StorageException(Type type, Throwable cause) {
         super(Constants.STORAGE, type.message, cause);
+        this.type = type;
     }
 }
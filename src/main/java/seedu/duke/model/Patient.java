@@ -2,10 +2,13 @@ package seedu.duke.model;
 
 import seedu.duke.Common;
 import seedu.duke.exception.DataException;
+import seedu.duke.exception.StorageException;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * Each instance of this class represents a patient, and no two patients should
@@ -17,7 +20,11 @@ public class Patient {
      * In SG's context, we use NRIC/FIN for this field
      */
     protected String id;
-    protected TreeMap<LocalDate, Record> records;
+    /**
+     * This is null until the records are read through recordLoader, if the patient is loaded lazily.
+     */
+    protected RecordMap records;
+    protected RecordLoader recordLoader;
     protected String symptom;
     protected String diagnosis;
     protected String prescription;
@@ -28,23 +35,35 @@ public class Patient {
      * @param id Patient's unique identifier
      */
     public Patient(String id) {
-        this(id, new TreeMap<LocalDate, Record>());
+        this(id, new RecordMap());
     }
 
     /**
-     * Initialize a patient instance with a pre-defined record TreeMap.
+     * Initialize a patient instance with a pre-defined record map.
      *
      * @param id      Patient's unique identifier
      * @param records Patient's visit record list
      */
-    public Patient(String id, TreeMap<LocalDate, Record> records) {
+    public Patient(String id, RecordMap records) {
         this.id = id;
         this.records = records;
+        this.recordLoader = null;
         this.symptom = null;
         this.diagnosis = null;
         this.prescription = null;
     }
 
+    /**
+     * Initialize a patient instance whose records are only read when they are first needed.
+     *
+     * @param id           Patient's unique identifier
+     * @param recordLoader Loader to read the patient's visit record list with
+     */
+    public Patient(String id, RecordLoader recordLoader) {
+        this(id, (RecordMap) null);
+        this.recordLoader = recordLoader;
+    }
+
     /**
      * Get unique identifier of the patient.
      *
@@ -54,8 +73,8 @@ public class Patient {
         return id;
     }
 
-    private void checkRecordExists(LocalDate date) throws DataException {
-        if (!records.containsKey(date)) {
+    private void checkRecordExists(LocalDate date) throws DataException, StorageException {
+        if (!getRecords().containsKey(date)) {
             throw new DataException(DataException.Type.NO_RECORD_FOUND);
         }
     }
@@ -63,14 +82,49 @@ public class Patient {
     /* Functionals for manipulating records */
 
     /**
-     * Get all records associated with this patient.
+     * Get all records associated with this patient. This is synchronized as the records may be read by the
+     * background saving thread for the first time.
      *
-     * @return All records in a TreeMap, mapping consultation dates to records
+     * @return All records, mapping consultation dates to records
+     * @throws StorageException when the records cannot be read from the save file
      */
-    public TreeMap<LocalDate, Record> getRecords() {
+    public synchronized RecordMap getRecords() throws StorageException {
+        if (records == null) {
+            records = recordLoader.loadRecords();
+            recordLoader = null;
+        }
         return records;
     }
 
+    /**
+     * Get all records associated with this patient, without keeping them in memory if they have not been read yet.
+     * This should be used when going through the records of many patients once, e.g. when exporting them.
+     *
+     * @return All records, mapping consultation dates to records
+     * @throws StorageException when the records cannot be read from the save file
+     */
+    public synchronized RecordMap readRecords() throws StorageException {
+        return records == null ? recordLoader.loadRecords() : records;
+    }
+
+    /**
+     * Checks whether the records of this patient have been read.
+     *
+     * @return true if the records are in memory, false if they are still only in the save file
+     */
+    public synchronized boolean isLoaded() {
+        return records != null;
+    }
+
+    /**
+     * Get the loader which will be used to read the records of this patient.
+     *
+     * @return the loader, or null if the records have been read
+     */
+    public synchronized RecordLoader getRecordLoader() {
+        return recordLoader;
+    }
+
     /**
      * Add a record into the patient's record list. This record can contain up to 3 fields,
      * patient's symptom, diagnosis and prescription.
@@ -80,12 +134,16 @@ public class Patient {
      * @param diagnosis    Patient's diagnosis to add to the record
      * @param prescription Patient's prescription to add to the record
      * @return a string containing a confirmation that the records were added to the patient
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    public String addRecord(LocalDate date, String symptom, String diagnosis, String prescription) {
-        if (!records.containsKey(date)) {
-            records.put(date, new Record());
-        }
+    public String addRecord(LocalDate date, String symptom, String diagnosis, String prescription)
+            throws StorageException {
+        RecordMap records = getRecords();
         Record record = records.get(date);
+        if (record == null) {
+            record = new Record();
+            records.put(date, record);
+        }
         record.addDetails(symptom, diagnosis, prescription);
         this.symptom = symptom;
         this.diagnosis = diagnosis;
@@ -110,15 +168,13 @@ public class Patient {
      *
      * @param date the date of the patient's consultation
      * @return a string containing the records of the patient's visit on the date
-     * @throws DataException if the patient has no visit record from the specified date
+     * @throws DataException    if the patient has no visit record from the specified date
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    public String getRecord(LocalDate date) throws DataException {
+    public String getRecord(LocalDate date) throws DataException, StorageException {
         checkRecordExists(date);
-        Record record = records.get(date);
-        String recordString = "Here are " + id + "'s records:" + System.lineSeparator()
-                + Common.formatDate(date) + ":" + System.lineSeparator()
-                + record.toString();
-        return recordString;
+        Record record = getRecords().get(date);
+        return formatRecords(Collections.singletonMap(date, record).entrySet());
     }
 
     /**
@@ -126,28 +182,68 @@ public class Patient {
      * the returned string will notify the user that there are no records
      *
      * @return a string containing all the records of the patient
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    public String getRecord() {
+    public String getRecord() throws StorageException {
+        RecordMap records = getRecords();
         if (records.isEmpty()) {
             return id + " has no medical records.";
         }
-        String recordString = "Here are " + id + "'s records:" + System.lineSeparator();
-        for (Map.Entry<LocalDate, Record> recordIterator : records.entrySet()) {
-            LocalDate date = recordIterator.getKey();
-            Record record = recordIterator.getValue();
-            recordString += Common.formatDate(date) + ":" + System.lineSeparator()
-                    + record.toString();
+        return formatRecords(records.entrySet());
+    }
+
+    /**
+     * Returns the medical records of a patient within a range of dates. Only the records within the range are
+     * visited, as the records are sorted by date.
+     *
+     * @param from the earliest date of the records to be returned, or null for no lower bound
+     * @param to   the latest date of the records to be returned, or null for no upper bound
+     * @return a string containing the records of the patient within the range
+     * @throws StorageException when the patient's records cannot be read from the save file
+     */
+    public String getRecord(LocalDate from, LocalDate to) throws StorageException {
+        List<Map.Entry<LocalDate, Record>> records = getRecords().getRange(from, to);
+        if (records.isEmpty()) {
+            return id + " has no medical records within the specified dates.";
+        }
+        return formatRecords(records);
+    }
+
+    /**
+     * Returns the most recent medical records of a patient, from the earliest to the latest. Only the records
+     * returned are visited, starting from the latest one.
+     *
+     * @param count the number of records to be returned
+     * @return a string containing the records of the patient
+     * @throws StorageException when the patient's records cannot be read from the save file
+     */
+    public String getLastRecords(int count) throws StorageException {
+        RecordMap records = getRecords();
+        if (records.isEmpty()) {
+            return id + " has no medical records.";
+        }
+        return formatRecords(records.getLast(count));
+    }
+
+    private String formatRecords(Collection<Map.Entry<LocalDate, Record>> records) {
+        StringBuilder recordString = new StringBuilder();
+        recordString.append("Here are ").append(id).append("'s records:").append(System.lineSeparator());
+        for (Map.Entry<LocalDate, Record> recordIterator : records) {
+            recordString.append(Common.formatDate(recordIterator.getKey())).append(':').append(System.lineSeparator());
+            recordIterator.getValue().appendConsultationDetail(recordString);
         }
-        return recordString;
+        return recordString.toString();
     }
 
     /**
      * Deletes a record from the patient's record list.
      *
      * @param date Appointment date of record to delete
+     * @throws DataException    if the patient has no visit record from the specified date
+     * @throws StorageException when the patient's records cannot be read from the save file
      */
-    public void deleteRecord(LocalDate date) throws DataException {
+    public void deleteRecord(LocalDate date) throws DataException, StorageException {
         checkRecordExists(date);
-        records.remove(date);
+        getRecords().remove(date);
     }
 }
@@ -2,41 +2,179 @@ package seedu.duke.model;
 
 import seedu.duke.Constants;
 
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Each instance of this class represent a visit record. It can contain
  * medical diagnosis, prescription, test results, etc.
+ *
+ * <p>Details are kept as their codes in the shared TermDictionary, in the order they were added and without
+ * duplicates. The codes of all three fields are packed into a single array, symptoms first, then diagnoses, then
+ * prescriptions, so a record is only two objects however many fields it uses. A record without any detail shares
+ * the same empty array with all other records.</p>
  */
 public class Record {
-    protected LinkedHashSet<String> symptoms;
-    protected LinkedHashSet<String> diagnoses;
-    protected LinkedHashSet<String> prescriptions;
+    private static final int[] NO_DETAILS = new int[0];
+
+    private int[] codes;
+    /**
+     * This is the index in codes right after the last symptom, which is also where the diagnoses start.
+     */
+    private int symptomEnd;
+    /**
+     * This is the index in codes right after the last diagnosis, which is also where the prescriptions start.
+     */
+    private int diagnosisEnd;
 
     /**
      * Initialize a new visit record.
      */
     public Record() {
-        this.symptoms = new LinkedHashSet<>();
-        this.diagnoses = new LinkedHashSet<>();
-        this.prescriptions = new LinkedHashSet<>();
+        this.codes = NO_DETAILS;
+        this.symptomEnd = 0;
+        this.diagnosisEnd = 0;
     }
 
     /**
      * Generates a record with existing data.
      *
-     * @param symptoms      existing symptoms data
-     * @param diagnoses     existing diagnoses data
-     * @param prescriptions existing prescriptions data
+     * @param symptoms      codes of existing symptoms data
+     * @param diagnoses     codes of existing diagnoses data
+     * @param prescriptions codes of existing prescriptions data
+     */
+    public Record(int[] symptoms, int[] diagnoses, int[] prescriptions) {
+        this.symptomEnd = symptoms.length;
+        this.diagnosisEnd = symptomEnd + diagnoses.length;
+        int length = diagnosisEnd + prescriptions.length;
+        if (length == 0) {
+            this.codes = NO_DETAILS;
+            return;
+        }
+        this.codes = new int[length];
+        System.arraycopy(symptoms, 0, codes, 0, symptoms.length);
+        System.arraycopy(diagnoses, 0, codes, symptomEnd, diagnoses.length);
+        System.arraycopy(prescriptions, 0, codes, diagnosisEnd, prescriptions.length);
+    }
+
+    /**
+     * Get the symptoms contained in this record.
+     *
+     * @return symptoms, in the order they were added
+     */
+    public List<String> getSymptoms() {
+        return decode(0, symptomEnd);
+    }
+
+    /**
+     * Get the diagnoses contained in this record.
+     *
+     * @return diagnoses, in the order they were added
+     */
+    public List<String> getDiagnoses() {
+        return decode(symptomEnd, diagnosisEnd);
+    }
+
+    /**
+     * Get the prescriptions contained in this record.
+     *
+     * @return prescriptions, in the order they were added
+     */
+    public List<String> getPrescriptions() {
+        return decode(diagnosisEnd, codes.length);
+    }
+
+    /**
+     * Get the codes of the symptoms contained in this record.
+     *
+     * @return a copy of the codes of the symptoms, in the order they were added
+     */
+    public int[] getSymptomCodes() {
+        return copyCodes(0, symptomEnd);
+    }
+
+    /**
+     * Get the codes of the diagnoses contained in this record.
+     *
+     * @return a copy of the codes of the diagnoses, in the order they were added
+     */
+    public int[] getDiagnosisCodes() {
+        return copyCodes(symptomEnd, diagnosisEnd);
+    }
+
+    /**
+     * Get the codes of the prescriptions contained in this record.
+     *
+     * @return a copy of the codes of the prescriptions, in the order they were added
+     */
+    public int[] getPrescriptionCodes() {
+        return copyCodes(diagnosisEnd, codes.length);
+    }
+
+    /**
+     * Get the number of symptoms contained in this record.
+     *
+     * @return the number of symptoms
+     */
+    public int getSymptomCount() {
+        return symptomEnd;
+    }
+
+    /**
+     * Get the number of diagnoses contained in this record.
+     *
+     * @return the number of diagnoses
+     */
+    public int getDiagnosisCount() {
+        return diagnosisEnd - symptomEnd;
+    }
+
+    /**
+     * Get the number of prescriptions contained in this record.
+     *
+     * @return the number of prescriptions
      */
-    public Record(
-            LinkedHashSet<String> symptoms,
-            LinkedHashSet<String> diagnoses,
-            LinkedHashSet<String> prescriptions
-    ) {
-        this.symptoms = symptoms;
-        this.diagnoses = diagnoses;
-        this.prescriptions = prescriptions;
+    public int getPrescriptionCount() {
+        return codes.length - diagnosisEnd;
+    }
+
+    /**
+     * Get the number of details contained in this record, of all fields.
+     *
+     * @return the number of details
+     */
+    public int getCodeCount() {
+        return codes.length;
+    }
+
+    /**
+     * Get the code of a detail without copying the codes, e.g. for writing the record to a file. The details of
+     * all fields are numbered together, symptoms first, then diagnoses, then prescriptions, each in the order they
+     * were added.
+     *
+     * @param index the index of the detail, from 0 to getCodeCount() - 1
+     * @return the code of the detail
+     */
+    public int getCodeAt(int index) {
+        return codes[index];
+    }
+
+    private int[] copyCodes(int from, int to) {
+        return from == to ? NO_DETAILS : Arrays.copyOfRange(codes, from, to);
+    }
+
+    private List<String> decode(int from, int to) {
+        if (from == to) {
+            return Collections.emptyList();
+        }
+        TermDictionary dictionary = TermDictionary.getInstance();
+        List<String> details = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            details.add(dictionary.decode(codes[i]));
+        }
+        return Collections.unmodifiableList(details);
     }
 
     /**
@@ -45,29 +183,32 @@ public class Record {
      * @return A String containing the consultation details contained in this record
      */
     public String getConsultationDetail() {
-        String consultationDetail = "";
-        if (!symptoms.isEmpty()) {
-            consultationDetail += extractField("Symptoms", symptoms);
-        }
-        if (!diagnoses.isEmpty()) {
-            consultationDetail += extractField("Diagnoses", diagnoses);
-        }
-        if (!prescriptions.isEmpty()) {
-            consultationDetail += extractField("Prescriptions", prescriptions);
-        }
-        return consultationDetail;
+        StringBuilder consultationDetail = new StringBuilder();
+        appendConsultationDetail(consultationDetail);
+        return consultationDetail.toString();
     }
 
-    private String extractField(String fieldName, LinkedHashSet<String> field) {
-        String fieldString = "";
-        if (field.isEmpty()) {
-            return fieldString;
+    /**
+     * Appends the consultation detail of this record to a builder, so that the details of many records can be
+     * put together without copying the text built so far.
+     *
+     * @param builder the builder to append the consultation detail to
+     */
+    public void appendConsultationDetail(StringBuilder builder) {
+        appendField(builder, "Symptoms", 0, symptomEnd);
+        appendField(builder, "Diagnoses", symptomEnd, diagnosisEnd);
+        appendField(builder, "Prescriptions", diagnosisEnd, codes.length);
+    }
+
+    private void appendField(StringBuilder builder, String fieldName, int from, int to) {
+        if (from == to) {
+            return;
         }
-        fieldString += fieldName + ":" + System.lineSeparator();
-        for (String string : field) {
-            fieldString += Constants.INDENT + string + System.lineSeparator();
+        TermDictionary dictionary = TermDictionary.getInstance();
+        builder.append(fieldName).append(':').append(System.lineSeparator());
+        for (int i = from; i < to; i++) {
+            builder.append(Constants.INDENT).append(dictionary.decode(codes[i])).append(System.lineSeparator());
         }
-        return fieldString;
     }
 
     /**
@@ -76,20 +217,19 @@ public class Record {
      * @return A String containing the consultation details contained in this record, separated by delimiters.
      */
     public String printFileConsultationDetail() {
-        String consultationDetail = "";
-        for (String symptom : symptoms) {
-            consultationDetail += symptom + Constants.DETAILS_DELIMITER;
-        }
-        consultationDetail += Constants.SYMPTOM_DELIMITER;
-        for (String diagnosis : diagnoses) {
-            consultationDetail += diagnosis + Constants.DETAILS_DELIMITER;
-        }
-        consultationDetail += Constants.DIAGNOSIS_DELIMITER;
-        for (String prescription : prescriptions) {
-            consultationDetail += prescription + Constants.DETAILS_DELIMITER;
+        StringBuilder consultationDetail = new StringBuilder();
+        appendFileField(consultationDetail, 0, symptomEnd, Constants.SYMPTOM_DELIMITER);
+        appendFileField(consultationDetail, symptomEnd, diagnosisEnd, Constants.DIAGNOSIS_DELIMITER);
+        appendFileField(consultationDetail, diagnosisEnd, codes.length, Constants.PRESCRIPTION_DELIMITER);
+        return consultationDetail.toString();
+    }
+
+    private void appendFileField(StringBuilder builder, int from, int to, String endDelimiter) {
+        TermDictionary dictionary = TermDictionary.getInstance();
+        for (int i = from; i < to; i++) {
+            builder.append(dictionary.decode(codes[i])).append(Constants.DETAILS_DELIMITER);
         }
-        consultationDetail += Constants.PRESCRIPTION_DELIMITER;
-        return consultationDetail;
+        builder.append(endDelimiter);
     }
 
     @Override
@@ -105,14 +245,69 @@ public class Record {
      * @param prescription prescription given for this visit
      */
     public void addDetails(String symptom, String diagnosis, String prescription) {
+        TermDictionary dictionary = TermDictionary.getInstance();
         if (symptom != null) {
-            symptoms.add(symptom);
+            addSymptom(dictionary.encode(symptom));
         }
         if (diagnosis != null) {
-            diagnoses.add(diagnosis);
+            addDiagnosis(dictionary.encode(diagnosis));
         }
         if (prescription != null) {
-            prescriptions.add(prescription);
+            addPrescription(dictionary.encode(prescription));
+        }
+    }
+
+    /**
+     * This adds all details of another record into this record.
+     *
+     * @param record the record whose details are to be added
+     */
+    public void addDetails(Record record) {
+        for (int i = 0; i < record.symptomEnd; i++) {
+            addSymptom(record.codes[i]);
+        }
+        for (int i = record.symptomEnd; i < record.diagnosisEnd; i++) {
+            addDiagnosis(record.codes[i]);
+        }
+        for (int i = record.diagnosisEnd; i < record.codes.length; i++) {
+            addPrescription(record.codes[i]);
+        }
+    }
+
+    private void addSymptom(int code) {
+        if (insertCode(0, symptomEnd, code)) {
+            symptomEnd++;
+            diagnosisEnd++;
+        }
+    }
+
+    private void addDiagnosis(int code) {
+        if (insertCode(symptomEnd, diagnosisEnd, code)) {
+            diagnosisEnd++;
+        }
+    }
+
+    private void addPrescription(int code) {
+        insertCode(diagnosisEnd, codes.length, code);
+    }
+
+    /**
+     * Inserts a code at the end of a field, unless the field already has it. A record has only a few details, so the
+     * array grows by one each time, which keeps it exactly as long as needed.
+     *
+     * @return true if the code was inserted, false if the field already has it
+     */
+    private boolean insertCode(int from, int to, int code) {
+        for (int i = from; i < to; i++) {
+            if (codes[i] == code) {
+                return false;
+            }
         }
+        int[] newCodes = new int[codes.length + 1];
+        System.arraycopy(codes, 0, newCodes, 0, to);
+        newCodes[to] = code;
+        System.arraycopy(codes, to, newCodes, to + 1, codes.length - to);
+        codes = newCodes;
+        return true;
     }
 }
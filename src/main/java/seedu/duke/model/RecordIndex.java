@@ -0,0 +1,472 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This is an inverted index of the details of all records, from each symptom, diagnosis and prescription to the
+ * visits (patient ID and date) it was recorded in. Looking up a detail takes the same time regardless of the total
+ * number of records, and only the visits found are visited.
+ *
+ * <p>Details are matched after normalization, i.e. case and extra whitespaces are ignored.</p>
+ *
+ * <p>The words of the details are also indexed in a sorted dictionary, so that all words starting with a prefix are
+ * next to each other. This allows searching for partial words, e.g. "para" for "paracetamol 500mg".</p>
+ */
+public class RecordIndex {
+    /**
+     * This is the field of a record which a detail belongs to.
+     */
+    public enum Field {
+        SYMPTOM,
+        DIAGNOSIS,
+        PRESCRIPTION
+    }
+
+    /**
+     * These are the postings of each detail, by field. The postings of a detail are the IDs of the patients with
+     * the detail, by the date of the visit.
+     */
+    private final EnumMap<Field, Map<String, TreeMap<LocalDate, List<String>>>> postings;
+    /**
+     * These are the postings of each word in the details of any field, sorted by the word.
+     */
+    private final TreeMap<String, TreeMap<LocalDate, List<String>>> words;
+    /**
+     * These are the details after normalization, by their codes in the shared dictionary, so that each distinct
+     * detail is only normalized and split into words once however many records it appears in.
+     */
+    private final List<Term> terms;
+
+    /**
+     * This is the constructor of the RecordIndex class. The index is empty at first.
+     */
+    public RecordIndex() {
+        postings = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+        words = new TreeMap<>();
+        terms = new ArrayList<>();
+    }
+
+    /**
+     * Normalizes a detail for matching, i.e. converts it to lowercase and removes extra whitespaces.
+     *
+     * @param detail the detail to be normalized
+     * @return the normalized detail
+     */
+    public static String normalize(String detail) {
+        StringBuilder normalized = new StringBuilder(detail.length());
+        boolean isSpace = false;
+        for (int i = 0; i < detail.length(); i++) {
+            char c = detail.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isSpace = normalized.length() > 0;
+                continue;
+            }
+            if (isSpace) {
+                normalized.append(' ');
+                isSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Splits a text into its words, i.e. the runs of letters and digits, in lowercase.
+     *
+     * @param text the text to be split
+     * @return the words, in the order they appear
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds all records of a patient to the index.
+     *
+     * @param id      unique identifier of the patient
+     * @param records the records of the patient
+     */
+    public void addRecords(String id, Map<LocalDate, Record> records) {
+        for (Map.Entry<LocalDate, Record> entry : records.entrySet()) {
+            addRecord(id, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Adds all details of a record to the index.
+     *
+     * @param id     unique identifier of the patient
+     * @param date   date of the visit
+     * @param record the record of the visit
+     */
+    public void addRecord(String id, LocalDate date, Record record) {
+        for (int i = 0; i < record.getCodeCount(); i++) {
+            addTerm(getField(record, i), getTerm(record.getCodeAt(i)), id, date);
+        }
+    }
+
+    /**
+     * Gets the field of a detail of a record, by its index as numbered by Record.getCodeAt().
+     */
+    private static Field getField(Record record, int index) {
+        if (index < record.getSymptomCount()) {
+            return Field.SYMPTOM;
+        }
+        return index < record.getSymptomCount() + record.getDiagnosisCount() ? Field.DIAGNOSIS : Field.PRESCRIPTION;
+    }
+
+    /**
+     * Adds a detail of a visit to the index. Adding a detail which is already in the index does nothing.
+     *
+     * @param field  the field of the detail
+     * @param detail the detail, which is null if there is none
+     * @param id     unique identifier of the patient
+     * @param date   date of the visit
+     */
+    public void addDetail(Field field, String detail, String id, LocalDate date) {
+        if (detail == null || detail.isEmpty()) {
+            return;
+        }
+        addTerm(field, getTerm(TermDictionary.getInstance().encode(detail)), id, date);
+    }
+
+    private void addTerm(Field field, Term term, String id, LocalDate date) {
+        addPosting(postings.get(field), term.normalized, id, date);
+        for (String word : term.words) {
+            addPosting(words, word, id, date);
+        }
+    }
+
+    private Term getTerm(int code) {
+        while (terms.size() <= code) {
+            terms.add(null);
+        }
+        Term term = terms.get(code);
+        if (term == null) {
+            term = new Term(normalize(TermDictionary.getInstance().decode(code)));
+            terms.set(code, term);
+        }
+        return term;
+    }
+
+    private static void addPosting(Map<String, TreeMap<LocalDate, List<String>>> terms, String term, String id,
+            LocalDate date) {
+        List<String> ids = terms.computeIfAbsent(term, k -> new TreeMap<>())
+                .computeIfAbsent(date, k -> new ArrayList<>(1));
+        int index = Collections.binarySearch(ids, id);
+        if (index < 0) {
+            ids.add(-index - 1, id);
+        }
+    }
+
+    /**
+     * Removes all records of a patient from the index.
+     *
+     * @param id      unique identifier of the patient
+     * @param records the records of the patient
+     */
+    public void removeRecords(String id, Map<LocalDate, Record> records) {
+        for (Map.Entry<LocalDate, Record> entry : records.entrySet()) {
+            removeRecord(id, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Removes all details of a record from the index. Only whole records can be removed, as a word may appear in
+     * several details of the same record.
+     *
+     * @param id     unique identifier of the patient
+     * @param date   date of the visit
+     * @param record the record of the visit
+     */
+    public void removeRecord(String id, LocalDate date, Record record) {
+        for (int i = 0; i < record.getCodeCount(); i++) {
+            removeTerm(getField(record, i), getTerm(record.getCodeAt(i)), id, date);
+        }
+    }
+
+    private void removeTerm(Field field, Term term, String id, LocalDate date) {
+        removePosting(postings.get(field), term.normalized, id, date);
+        for (String word : term.words) {
+            removePosting(words, word, id, date);
+        }
+    }
+
+    private static void removePosting(Map<String, TreeMap<LocalDate, List<String>>> terms, String term,
+            String id, LocalDate date) {
+        TreeMap<LocalDate, List<String>> termPostings = terms.get(term);
+        if (termPostings == null) {
+            return;
+        }
+        List<String> ids = termPostings.get(date);
+        int index = ids == null ? -1 : Collections.binarySearch(ids, id);
+        if (index < 0) {
+            return;
+        }
+        ids.remove(index);
+        if (ids.isEmpty()) {
+            termPostings.remove(date);
+            if (termPostings.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Finds the visits with a detail, from the most recent to the earliest. Visits on the same date are sorted by
+     * patient ID.
+     *
+     * @param field  the field of the detail, or null to look in all fields
+     * @param detail the detail to be found
+     * @param from   the earliest date of the visits, or null for no lower bound
+     * @param to     the latest date of the visits, or null for no upper bound
+     * @return the visits found
+     */
+    public List<Visit> find(Field field, String detail, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+        String term = normalize(detail);
+        List<SortedMap<LocalDate, List<String>>> matches = new ArrayList<>();
+        for (Field matchField : field == null ? Field.values() : new Field[] {field}) {
+            TreeMap<LocalDate, List<String>> detailPostings = postings.get(matchField).get(term);
+            if (detailPostings != null) {
+                matches.add(getDateRange(detailPostings, from, to).descendingMap());
+            }
+        }
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (matches.size() == 1) {
+            return toVisits(matches.get(0));
+        }
+        // The same visit may have the detail in several fields, so the matches are merged
+        TreeMap<LocalDate, TreeSet<String>> merged = new TreeMap<>(Collections.reverseOrder());
+        for (SortedMap<LocalDate, List<String>> match : matches) {
+            for (Map.Entry<LocalDate, List<String>> entry : match.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), k -> new TreeSet<>()).addAll(entry.getValue());
+            }
+        }
+        return toVisits(merged);
+    }
+
+    /**
+     * Searches for the visits with details containing all words of a query, from the most recent to the earliest.
+     * Each word of the query matches any word starting with it, e.g. "para" matches "paracetamol". Only as many
+     * visits as needed are looked at, so the time taken depends on the limit rather than on the number of records.
+     *
+     * @param query the words to be found
+     * @param from  the earliest date of the visits, or null for no lower bound
+     * @param to    the latest date of the visits, or null for no upper bound
+     * @param limit the maximum number of visits to be found
+     * @return the visits found
+     */
+    public List<Visit> search(String query, LocalDate from, LocalDate to, int limit) {
+        List<String> queryWords = tokenize(query);
+        if (queryWords.isEmpty() || (from != null && to != null && from.isAfter(to))) {
+            return Collections.emptyList();
+        }
+        // A longer prefix matches fewer words, so its visits are gone through and the other words are checked
+        String firstWord = Collections.max(queryWords, Comparator.comparingInt(String::length));
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        for (TreeMap<LocalDate, List<String>> wordPostings : getWordsStartingWith(firstWord).values()) {
+            Cursor cursor = new Cursor(getDateRange(wordPostings, from, to).descendingMap());
+            if (cursor.hasDate()) {
+                cursors.add(cursor);
+            }
+        }
+        // The words matching each of the other prefixes are only looked up once. A prefix of firstWord (including
+        // firstWord itself) is matched by every visit found through firstWord, so it does not need to be checked
+        List<List<TreeMap<LocalDate, List<String>>>> otherWordPostings = new ArrayList<>();
+        for (String queryWord : new TreeSet<>(queryWords)) {
+            if (!firstWord.startsWith(queryWord)) {
+                otherWordPostings.add(new ArrayList<>(getWordsStartingWith(queryWord).values()));
+            }
+        }
+
+        List<Visit> visits = new ArrayList<>();
+        while (!cursors.isEmpty() && visits.size() < limit) {
+            // The visits on the latest remaining date of all matching words are merged, then checked in ID order
+            LocalDate date = cursors.peek().getDate();
+            TreeSet<String> ids = new TreeSet<>();
+            while (!cursors.isEmpty() && cursors.peek().getDate().equals(date)) {
+                Cursor cursor = cursors.poll();
+                ids.addAll(cursor.getIDs());
+                if (cursor.next()) {
+                    cursors.add(cursor);
+                }
+            }
+            for (List<TreeMap<LocalDate, List<String>>> wordPostings : otherWordPostings) {
+                if (ids.isEmpty()) {
+                    break;
+                }
+                ids = getIDsWithAnyWord(ids, wordPostings, date);
+            }
+            for (String id : ids) {
+                if (visits.size() >= limit) {
+                    break;
+                }
+                visits.add(new Visit(id, date));
+            }
+        }
+        return visits;
+    }
+
+    private SortedMap<String, TreeMap<LocalDate, List<String>>> getWordsStartingWith(String prefix) {
+        // The largest string starting with the prefix, so that all such words are included
+        return words.subMap(prefix, prefix + Character.MAX_VALUE);
+    }
+
+    /**
+     * Gets the IDs of the patients whose visit on a date has any of the given words, out of the given IDs. All IDs
+     * of the date are checked together, so the words are only gone through once for each date.
+     */
+    private static TreeSet<String> getIDsWithAnyWord(TreeSet<String> ids,
+            List<TreeMap<LocalDate, List<String>>> wordPostings, LocalDate date) {
+        TreeSet<String> remainingIDs = new TreeSet<>(ids);
+        TreeSet<String> foundIDs = new TreeSet<>();
+        for (TreeMap<LocalDate, List<String>> postings : wordPostings) {
+            List<String> dateIDs = postings.get(date);
+            if (dateIDs == null) {
+                continue;
+            }
+            Iterator<String> iterator = remainingIDs.iterator();
+            while (iterator.hasNext()) {
+                String id = iterator.next();
+                if (Collections.binarySearch(dateIDs, id) >= 0) {
+                    foundIDs.add(id);
+                    iterator.remove();
+                }
+            }
+            if (remainingIDs.isEmpty()) {
+                break;
+            }
+        }
+        return foundIDs;
+    }
+
+    private static NavigableMap<LocalDate, List<String>> getDateRange(
+            NavigableMap<LocalDate, List<String>> termPostings, LocalDate from, LocalDate to) {
+        if (from != null) {
+            termPostings = termPostings.tailMap(from, true);
+        }
+        if (to != null) {
+            termPostings = termPostings.headMap(to, true);
+        }
+        return termPostings;
+    }
+
+    private static List<Visit> toVisits(SortedMap<LocalDate, ? extends Collection<String>> matches) {
+        List<Visit> visits = new ArrayList<>();
+        for (Map.Entry<LocalDate, ? extends Collection<String>> entry : matches.entrySet()) {
+            for (String id : entry.getValue()) {
+                visits.add(new Visit(id, entry.getKey()));
+            }
+        }
+        return visits;
+    }
+
+    /**
+     * This is a detail after normalization, together with its words.
+     */
+    private static class Term {
+        private final String normalized;
+        private final List<String> words;
+
+        private Term(String normalized) {
+            this.normalized = normalized;
+            this.words = tokenize(normalized);
+        }
+    }
+
+    /**
+     * This goes through the postings of a word from the latest date. Cursors are ordered by their current date,
+     * latest first, so that the postings of several words can be merged by date.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+        private final Iterator<Map.Entry<LocalDate, List<String>>> entries;
+        private Map.Entry<LocalDate, List<String>> entry;
+
+        private Cursor(NavigableMap<LocalDate, List<String>> wordPostings) {
+            entries = wordPostings.entrySet().iterator();
+            next();
+        }
+
+        private boolean next() {
+            entry = entries.hasNext() ? entries.next() : null;
+            return entry != null;
+        }
+
+        private boolean hasDate() {
+            return entry != null;
+        }
+
+        private LocalDate getDate() {
+            return entry.getKey();
+        }
+
+        private List<String> getIDs() {
+            return entry.getValue();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return other.getDate().compareTo(getDate());
+        }
+    }
+
+    /**
+     * This is a visit found in the index, i.e. a patient ID and a date.
+     */
+    public static class Visit {
+        private final String id;
+        private final LocalDate date;
+
+        /**
+         * This is the constructor of the Visit class.
+         *
+         * @param id   unique identifier of the patient
+         * @param date date of the visit
+         */
+        public Visit(String id, LocalDate date) {
+            this.id = id;
+            this.date = date;
+        }
+
+        public String getID() {
+            return id;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.duke.model;
+
+import seedu.duke.exception.StorageException;
+
+/**
+ * This interface allows a patient's records to be read from the save file only when they are first needed.
+ */
+public interface RecordLoader {
+    /**
+     * Reads the records of a patient.
+     *
+     * @return the patient's records, mapping consultation dates to records
+     * @throws StorageException when the records cannot be read from the save file, or are malformed
+     */
+    RecordMap loadRecords() throws StorageException;
+}
@@ -0,0 +1,336 @@
+package seedu.duke.model;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This maps the dates of a patient's visits to their records, sorted by date. Dates are kept as epoch days in an
+ * int array, next to an array of the records, and looked up by binary search. Compared to a TreeMap, no LocalDate
+ * or tree node is kept for each visit, and the records are next to each other in memory.
+ *
+ * <p>Visits are mostly added in date order, which only appends to the arrays. Adding or removing a visit in the
+ * middle moves the visits after it, which is cheap for the number of visits a patient has.</p>
+ */
+public class RecordMap extends AbstractMap<LocalDate, Record> {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int[] NO_DAYS = new int[0];
+    private static final Record[] NO_RECORDS = new Record[0];
+
+    private int[] days;
+    private Record[] records;
+    private int size;
+    /**
+     * This is the number of times visits have been added or removed, so that iterators can detect changes.
+     */
+    private int modificationCount;
+
+    /**
+     * This is the constructor of the RecordMap class. The map is empty at first.
+     */
+    public RecordMap() {
+        this.days = NO_DAYS;
+        this.records = NO_RECORDS;
+        this.size = 0;
+        this.modificationCount = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof LocalDate && indexOf(toEpochDay((LocalDate) key)) >= 0;
+    }
+
+    @Override
+    public Record get(Object key) {
+        return key instanceof LocalDate ? get(toEpochDay((LocalDate) key)) : null;
+    }
+
+    /**
+     * Gets the record of a visit.
+     *
+     * @param epochDay the date of the visit, as an epoch day
+     * @return the record, or null if there is no visit on the date
+     */
+    public Record get(int epochDay) {
+        int index = indexOf(epochDay);
+        return index >= 0 ? records[index] : null;
+    }
+
+    @Override
+    public Record put(LocalDate date, Record record) {
+        return put(toEpochDay(date), record);
+    }
+
+    /**
+     * Adds or replaces the record of a visit.
+     *
+     * @param epochDay the date of the visit, as an epoch day
+     * @param record   the record of the visit
+     * @return the record replaced, or null if there was no visit on the date
+     */
+    public Record put(int epochDay, Record record) {
+        // Visits are mostly added in date order, so the last position is tried before searching
+        int index = size == 0 || days[size - 1] < epochDay ? -size - 1 : indexOf(epochDay);
+        if (index >= 0) {
+            Record oldRecord = records[index];
+            records[index] = record;
+            return oldRecord;
+        }
+        index = -index - 1;
+        if (size == days.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            days = Arrays.copyOf(days, capacity);
+            records = Arrays.copyOf(records, capacity);
+        }
+        System.arraycopy(days, index, days, index + 1, size - index);
+        System.arraycopy(records, index, records, index + 1, size - index);
+        days[index] = epochDay;
+        records[index] = record;
+        size++;
+        modificationCount++;
+        return null;
+    }
+
+    @Override
+    public Record remove(Object key) {
+        if (!(key instanceof LocalDate)) {
+            return null;
+        }
+        int index = indexOf(toEpochDay((LocalDate) key));
+        if (index < 0) {
+            return null;
+        }
+        Record record = records[index];
+        removeAt(index);
+        return record;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(days, index + 1, days, index, size - index - 1);
+        System.arraycopy(records, index + 1, records, index, size - index - 1);
+        size--;
+        records[size] = null;
+        modificationCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(records, 0, size, null);
+        size = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Gets the date of a visit by its position, so that the visits can be gone through without creating any entry.
+     *
+     * @param index the position of the visit, from 0 for the earliest visit to size() - 1 for the latest
+     * @return the date of the visit, as an epoch day
+     */
+    public int getEpochDayAt(int index) {
+        checkIndex(index);
+        return days[index];
+    }
+
+    /**
+     * Gets the record of a visit by its position.
+     *
+     * @param index the position of the visit, from 0 for the earliest visit to size() - 1 for the latest
+     * @return the record of the visit
+     */
+    public Record getRecordAt(int index) {
+        checkIndex(index);
+        return records[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Gets the visits within a range of dates, from the earliest to the latest. Only the visits within the range
+     * are looked at.
+     *
+     * @param from the earliest date of the visits, or null for no lower bound
+     * @param to   the latest date of the visits, or null for no upper bound
+     * @return the visits within the range
+     */
+    public List<Map.Entry<LocalDate, Record>> getRange(LocalDate from, LocalDate to) {
+        int fromIndex = from == null ? 0 : lowerBound(toEpochDay(from));
+        int toIndex = to == null ? size : lowerBound((long) toEpochDay(to) + 1);
+        return getEntries(fromIndex, Math.max(fromIndex, toIndex));
+    }
+
+    /**
+     * Gets the most recent visits, from the earliest to the latest.
+     *
+     * @param count the maximum number of visits
+     * @return the last count visits, or all visits if there are fewer
+     */
+    public List<Map.Entry<LocalDate, Record>> getLast(int count) {
+        return getEntries(Math.max(0, size - count), size);
+    }
+
+    private List<Map.Entry<LocalDate, Record>> getEntries(int fromIndex, int toIndex) {
+        List<Map.Entry<LocalDate, Record>> entries = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(LocalDate.ofEpochDay(days[i]), records[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * Finds a visit by binary search.
+     *
+     * @return the index of the visit, or (-(insertion point) - 1) if there is no visit on the date
+     */
+    private int indexOf(int epochDay) {
+        return Arrays.binarySearch(days, 0, size, epochDay);
+    }
+
+    /**
+     * Finds the index of the first visit on or after a date.
+     */
+    private int lowerBound(long epochDay) {
+        if (epochDay > Integer.MAX_VALUE) {
+            return size;
+        }
+        int index = indexOf((int) epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    @Override
+    public Set<Map.Entry<LocalDate, Record>> entrySet() {
+        return new EntrySet();
+    }
+
+    /**
+     * This is the view of the visits as map entries. Entries are created as the visits are iterated over.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<LocalDate, Record>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<LocalDate, Record>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<LocalDate, Record>> {
+        private int nextIndex = 0;
+        private int lastIndex = -1;
+        private int expectedModificationCount = modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Map.Entry<LocalDate, Record> next() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextIndex >= size) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex++;
+            return new Entry(lastIndex);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModificationCount = modificationCount;
+        }
+    }
+
+    /**
+     * This is a visit as a map entry. Setting its value replaces the record in the map, as long as no visit has been
+     * added to or removed from the map since the entry was created.
+     */
+    private class Entry implements Map.Entry<LocalDate, Record> {
+        private final int index;
+        private final LocalDate date;
+        private final int expectedModificationCount = modificationCount;
+        private Record record;
+
+        private Entry(int index) {
+            this.index = index;
+            this.date = LocalDate.ofEpochDay(days[index]);
+            this.record = records[index];
+        }
+
+        @Override
+        public LocalDate getKey() {
+            return date;
+        }
+
+        @Override
+        public Record getValue() {
+            // The record may have been replaced through the map, which keeps the visit at the same index
+            return expectedModificationCount == modificationCount ? records[index] : record;
+        }
+
+        @Override
+        public Record setValue(Record record) {
+            if (expectedModificationCount != modificationCount) {
+                // The visit may have moved to another index, or may have been removed
+                throw new ConcurrentModificationException();
+            }
+            Record oldRecord = records[index];
+            records[index] = record;
+            this.record = record;
+            return oldRecord;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return date.equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return date.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return date + "=" + getValue();
+        }
+    }
+}
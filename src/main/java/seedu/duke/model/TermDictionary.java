@@ -0,0 +1,115 @@
+package seedu.duke.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is the dictionary of all symptoms, diagnoses and prescriptions, which maps each distinct detail to an int
+ * code. Records only keep the codes of their details, so each distinct detail is kept in memory once, no matter how
+ * many visits it appears in. The codes are also used by the save file and the record index, so that details do not
+ * have to be compared or hashed as strings again.
+ *
+ * <p>Codes are given out in order from 0 and are never reused, so they stay valid for as long as the program runs.
+ * The dictionary is shared by all records, and may be used from several threads at once. Terms already in the
+ * dictionary are encoded without locking, so only new terms are added one at a time.</p>
+ */
+public class TermDictionary {
+    private static final TermDictionary INSTANCE = new TermDictionary();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ConcurrentHashMap<String, Integer> codes;
+    /**
+     * This is written again after every new term, before the code of the term is put into codes, so that threads
+     * decoding a code given out by another thread see the term.
+     */
+    private volatile String[] terms;
+    private int size;
+
+    /**
+     * This is the constructor of the TermDictionary class. The dictionary is empty at first.
+     */
+    public TermDictionary() {
+        this.codes = new ConcurrentHashMap<>();
+        this.terms = new String[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Gets the dictionary shared by all records.
+     *
+     * @return the shared dictionary
+     */
+    public static TermDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the code of a term, adding the term to the dictionary if it is not in it yet.
+     *
+     * @param term the term to be encoded
+     * @return the code of the term
+     */
+    public int encode(String term) {
+        Integer code = codes.get(term);
+        if (code != null) {
+            return code;
+        }
+        return add(term);
+    }
+
+    private synchronized int add(String term) {
+        // Another thread may have added the term since it was looked up
+        Integer code = codes.get(term);
+        if (code != null) {
+            return code;
+        }
+        String[] newTerms = size < terms.length ? terms : Arrays.copyOf(terms, terms.length * 2);
+        newTerms[size] = term;
+        terms = newTerms;
+        codes.put(term, size);
+        return size++;
+    }
+
+    /**
+     * Gets the codes of several terms at once, e.g. the string table of a save file.
+     *
+     * @param terms the terms to be encoded
+     * @return the code of each term, in the same order
+     */
+    public int[] encode(String[] terms) {
+        int[] termCodes = new int[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            termCodes[i] = encode(terms[i]);
+        }
+        return termCodes;
+    }
+
+    /**
+     * Gets the code of a term without adding it to the dictionary.
+     *
+     * @param term the term to be looked up
+     * @return the code of the term, or -1 if it is not in the dictionary
+     */
+    public int lookup(String term) {
+        return codes.getOrDefault(term, -1);
+    }
+
+    /**
+     * Gets the term of a code.
+     *
+     * @param code a code given out by this dictionary
+     * @return the term of the code
+     */
+    public String decode(int code) {
+        return terms[code];
+    }
+
+    /**
+     * Gets the number of terms in the dictionary. Every code is smaller than this number.
+     *
+     * @return the number of terms
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
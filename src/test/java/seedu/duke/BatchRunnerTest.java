@@ -0,0 +1,92 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.Patient;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRunnerTest {
+    public static final String BATCH_TEST_FILE = "batchTestFile.txt";
+
+    /**
+     * This is a storage which keeps the number of changes written by each save, instead of writing them to a file.
+     */
+    private static class CountingStorage extends Storage {
+        private final List<Integer> savedChanges = new ArrayList<>();
+
+        CountingStorage() {
+            super(BATCH_TEST_FILE);
+        }
+
+        @Override
+        public void save(SortedMap<String, Patient> patientData, List<JournalEntry> changes) {
+            savedChanges.add(changes.size());
+        }
+    }
+
+    @Test
+    public void runBatch_failingLine_lineNumberReportedAndRunContinued() {
+        Data data = new Data();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        BatchRunner batchRunner = new BatchRunner(new Ui(bos, false), data, 0);
+
+        assertDoesNotThrow(() -> {
+            int errorCount = batchRunner.run(new BufferedReader(new StringReader("add S1234567D\n"
+                    + "\n"
+                    + "add S1234567A\n"
+                    + "add S7654321F\n")));
+            assertEquals(1, errorCount);
+        });
+
+        String output = bos.toString();
+        assertTrue(output.contains(String.format(Constants.BATCH_LINE_ERROR_MESSAGE, 3)));
+        assertTrue(output.contains(Constants.INVALID_INPUT_INVALID_NRIC_CHECKSUM));
+        assertFalse(output.contains(String.format(Constants.BATCH_LINE_ERROR_MESSAGE, 1)));
+        assertTrue(output.contains(String.format(Constants.BATCH_SUMMARY_MESSAGE, 3, 1)));
+        assertTrue(data.getPatients().containsKey("S1234567D"));
+        assertTrue(data.getPatients().containsKey("S7654321F"));
+    }
+
+    @Test
+    public void runBatch_flushEvery_savedEveryNCommands() {
+        CountingStorage storage = new CountingStorage();
+        Data data = new Data(storage);
+        BatchRunner batchRunner = new BatchRunner(new Ui(new ByteArrayOutputStream(), false), data, 2);
+
+        assertDoesNotThrow(() -> {
+            batchRunner.run(new BufferedReader(new StringReader("add S1234567D\n"
+                    + "add S7654321F\n"
+                    + "add S1111111D\n"
+                    + "add S2222222H\n"
+                    + "add S3333333A\n")));
+        });
+
+        // Two saves of two commands each, and the last command is saved at the end of the batch
+        assertEquals(List.of(2, 2, 1), storage.savedChanges);
+    }
+
+    @Test
+    public void runBatch_noFlushEvery_savedOnceAtEnd() {
+        CountingStorage storage = new CountingStorage();
+        Data data = new Data(storage);
+        BatchRunner batchRunner = new BatchRunner(new Ui(new ByteArrayOutputStream(), false), data, 0);
+
+        assertDoesNotThrow(() -> {
+            batchRunner.run(new BufferedReader(new StringReader("add S1234567D\n"
+                    + "add S7654321F\n"
+                    + "add S1111111D\n")));
+        });
+
+        assertEquals(List.of(3), storage.savedChanges);
+    }
+}
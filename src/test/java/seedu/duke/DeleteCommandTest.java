@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import seedu.duke.command.DeleteCommand;
 import seedu.duke.exception.DataException;
 import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 
 import java.time.LocalDate;
@@ -18,7 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DeleteCommandTest {
     @Test
-    public void executeDeleteCommand_patientDeleted() {
+    public void executeDeleteCommand_patientDeleted() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -42,7 +43,7 @@ public class DeleteCommandTest {
     }
 
     @Test
-    public void executeDeleteCommand_recordDeleted() {
+    public void executeDeleteCommand_recordDeleted() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -98,7 +99,7 @@ public class DeleteCommandTest {
     }
 
     @Test
-    public void executeDeleteCommand_recordDoesNotExist() {
+    public void executeDeleteCommand_recordDoesNotExist() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -131,7 +132,7 @@ public class DeleteCommandTest {
     }
 
     @Test
-    public void executeDeleteCommand_emptyRecordArgument() {
+    public void executeDeleteCommand_emptyRecordArgument() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -4,11 +4,14 @@ import org.junit.jupiter.api.Test;
 import seedu.duke.command.ExitCommand;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.PrintStream;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ExitCommandTest {
     @Test
@@ -32,4 +35,29 @@ public class ExitCommandTest {
 
         System.setOut(originalOut);
     }
+
+    @Test
+    public void executeExitCommand_changesLeftToExit_changesSaved() {
+        String testFile = "exitTestFile.txt";
+        new File(testFile).delete();
+        Ui ui = new Ui();
+        Data data = new Data(new Storage(testFile));
+        data.setDurability(Data.Durability.ON_EXIT, 0);
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "exit");
+        ExitCommand exitCommand = new ExitCommand(ui, data, arguments);
+
+        final PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+
+        assertDoesNotThrow(() -> {
+            data.addPatient("S1234567D");
+            data.saveFile();
+            assertFalse(new File(testFile).exists());
+            exitCommand.execute();
+            assertTrue(new Storage(testFile).load().containsKey("S1234567D"));
+        });
+
+        System.setOut(originalOut);
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.ExportCommand;
+import seedu.duke.command.ImportCommand;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportCommandTest {
+    public static final String EXPORT_TEST_FILE = "exportTestFile.txt";
+
+    private static Data createData() throws StorageException {
+        Data data = new Data();
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(LocalDate.of(2021, 3, 30), "fever, cough", null, "rest");
+        patient.addRecord(LocalDate.of(2021, 3, 30), "headache", "flu", null);
+        patient.addRecord(LocalDate.of(2021, 3, 31), "fever", null, null);
+        data.setPatient(patient);
+        data.setPatient(new Patient("S7654321F"));
+        data.setPatient(new Patient("T1234567J"));
+        return data;
+    }
+
+    private static String export(Data data, HashMap<String, String> arguments) {
+        arguments.put("command", "export");
+        arguments.put("payload", EXPORT_TEST_FILE);
+        ExportCommand exportCommand = new ExportCommand(new Ui(), data, arguments);
+
+        final PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        assertDoesNotThrow(exportCommand::execute);
+        System.setOut(originalOut);
+        return assertDoesNotThrow(() -> {
+            return new String(Files.readAllBytes(Paths.get(EXPORT_TEST_FILE)), StandardCharsets.UTF_8);
+        });
+    }
+
+    @Test
+    public void executeExportCommand_csvFormat_allPatientsExported() throws StorageException {
+        assertEquals(PatientExporter.CSV_HEADER + "\n"
+                + "S1234567D,30/03/2021,\"fever, cough\",flu,rest\n"
+                + "S1234567D,30/03/2021,headache,,\n"
+                + "S1234567D,31/03/2021,fever,,\n"
+                + "S7654321F\n"
+                + "T1234567J\n", export(createData(), new HashMap<>()));
+    }
+
+    @Test
+    public void executeExportCommand_exportedCsvImported_sameRecords() throws StorageException {
+        Data data = createData();
+        export(data, new HashMap<>());
+
+        Data importedData = new Data();
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "import");
+        arguments.put("payload", EXPORT_TEST_FILE);
+        ImportCommand importCommand = new ImportCommand(new Ui(), importedData, arguments);
+        final PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        assertDoesNotThrow(importCommand::execute);
+        System.setOut(originalOut);
+
+        assertEquals(data.getPatients().keySet(), importedData.getPatients().keySet());
+        for (String id : data.getPatients().keySet()) {
+            assertEquals(data.getPatient(id).getRecord(), importedData.getPatient(id).getRecord());
+        }
+    }
+
+    @Test
+    public void executeExportCommand_rangesAndJsonFormat_matchingRecordsExported() throws StorageException {
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put(Constants.FORMAT_KEY, "jsonl");
+        arguments.put(Constants.END_KEY, "S7654321F");
+        arguments.put(Constants.FROM_KEY, "31/03/2021");
+        assertEquals("{\"nric\":\"S1234567D\",\"date\":\"31/03/2021\",\"symptoms\":[\"fever\"],"
+                + "\"diagnoses\":[],\"prescriptions\":[]}\n", export(createData(), arguments));
+    }
+
+    @Test
+    public void executeExportCommand_invalidFormat_exceptionThrown() {
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "export");
+        arguments.put("payload", EXPORT_TEST_FILE);
+        arguments.put(Constants.FORMAT_KEY, "xml");
+        ExportCommand exportCommand = new ExportCommand(new Ui(), new Data(), arguments);
+
+        InvalidInputException invalidInputException = assertThrows(InvalidInputException.class,
+                exportCommand::execute);
+        assertEquals(Constants.INVALID_INPUT_INVALID_EXPORT_FORMAT, invalidInputException.getMessage());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.FindCommand;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FindCommandTest {
+    @Test
+    public void executeFindCommand_detailInRecords_printsVisitsMostRecentFirst() throws StorageException {
+        Data data = new Data();
+        Patient first = new Patient("S1234567D");
+        first.addRecord(LocalDate.of(2021, 3, 1), "Fever", "flu", null);
+        first.addRecord(LocalDate.of(2021, 3, 15), "coughing", null, "rest");
+        data.setPatient(first);
+        Patient second = new Patient("G1234567X");
+        second.addRecord(LocalDate.of(2021, 3, 15), "fever", null, null);
+        data.setPatient(second);
+        Ui ui = new Ui();
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            HashMap<String, String> arguments = new HashMap<>();
+            arguments.put("command", "find");
+            arguments.put("payload", "fever");
+            new FindCommand(ui, data, arguments).execute();
+            arguments.put(Constants.TO_KEY, "14/03/2021");
+            new FindCommand(ui, data, arguments).execute();
+            arguments.put("payload", "");
+            arguments.put(Constants.DIAGNOSIS_KEY, "fever");
+            new FindCommand(ui, data, arguments).execute();
+        });
+        String expected = "Found 2 visits with \"fever\" (most recent first):" + System.lineSeparator()
+                + "1. 15/03/2021 G1234567X" + System.lineSeparator()
+                + "2. 01/03/2021 S1234567D" + System.lineSeparator()
+                + "Found 1 visits with \"fever\" (most recent first):" + System.lineSeparator()
+                + "1. 01/03/2021 S1234567D" + System.lineSeparator()
+                + "No visits found with \"fever\"." + System.lineSeparator();
+        assertEquals(expected, bos.toString());
+
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void executeFindCommand_recordsChangedAfterSearch_indexUpdated() throws Exception {
+        Data data = new Data();
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(LocalDate.of(2021, 3, 1), "fever", null, null);
+        data.setPatient(patient);
+        assertEquals(1, data.findRecords(null, "fever", null, null).size());
+
+        data.loadCurrentPatient(patient.getID());
+        data.addRecord(LocalDate.of(2021, 3, 15), null, null, "paracetamol");
+        assertEquals(LocalDate.of(2021, 3, 15),
+                data.findRecords(null, "Paracetamol", null, null).get(0).getDate());
+        data.deleteRecord(LocalDate.of(2021, 3, 1));
+        assertEquals(0, data.findRecords(null, "fever", null, null).size());
+        data.deletePatient(patient.getID());
+        assertEquals(0, data.findRecords(null, "paracetamol", null, null).size());
+    }
+
+    @Test
+    public void executeFindCommand_twoDetails_exceptionThrown() {
+        Data data = new Data();
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "find");
+        arguments.put("payload", "fever");
+        arguments.put(Constants.SYMPTOM_KEY, "coughing");
+        FindCommand findCommand = new FindCommand(new Ui(), data, arguments);
+        Exception exception = assertThrows(InvalidInputException.class, findCommand::execute);
+        assertEquals(Constants.INVALID_INPUT_INVALID_FIND_ARGUMENTS, exception.getMessage());
+    }
+}
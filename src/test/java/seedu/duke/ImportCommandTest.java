@@ -0,0 +1,75 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.ImportCommand;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportCommandTest {
+    public static final String IMPORT_TEST_FILE = "importTestFile.csv";
+
+    @Test
+    public void executeImportCommand_validAndInvalidRows_validRowsImported() throws StorageException {
+        Data data = new Data();
+        Ui ui = new Ui();
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "import");
+        arguments.put("payload", IMPORT_TEST_FILE);
+        ImportCommand importCommand = new ImportCommand(ui, data, arguments);
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            data.addPatient("S1234567D");
+            FileWriter writer = new FileWriter(IMPORT_TEST_FILE);
+            writer.write("nric,date,symptom,diagnosis,prescription\n"
+                    + "S1234567D,31/03/2021,\"fever, cough\",flu,\n"
+                    + "S7654321F\n"
+                    + "S1111111A,31/03/2021,fever,,\n"
+                    + "G1234567X,31/03/2021,,,\n"
+                    + "S1234567D,31/03/2021,,,paracetamol\n");
+            writer.close();
+            importCommand.execute();
+        });
+        System.setOut(originalOut);
+        new File(IMPORT_TEST_FILE).delete();
+
+        assertTrue(bos.toString().startsWith("Line 4: " + Constants.INVALID_INPUT_INVALID_NRIC_CHECKSUM));
+        assertTrue(bos.toString().contains(String.format(Constants.IMPORT_SUMMARY_MESSAGE, 3, 1, 2, 2)));
+        assertFalse(data.getPatients().containsKey("G1234567X"));
+        assertEquals("Symptoms:" + System.lineSeparator()
+                + "\tfever, cough" + System.lineSeparator()
+                + "Diagnoses:" + System.lineSeparator()
+                + "\tflu" + System.lineSeparator()
+                + "Prescriptions:" + System.lineSeparator()
+                + "\tparacetamol" + System.lineSeparator(),
+                data.getPatient("S1234567D").getRecords().get(LocalDate.of(2021, 3, 31)).toString());
+    }
+
+    @Test
+    public void executeImportCommand_missingFile_exceptionThrown() {
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "import");
+        arguments.put("payload", "missingFile.csv");
+        ImportCommand importCommand = new ImportCommand(new Ui(), new Data(), arguments);
+
+        InvalidInputException invalidInputException = assertThrows(InvalidInputException.class,
+                importCommand::execute);
+        assertEquals(Constants.INVALID_INPUT_INVALID_IMPORT_FILE, invalidInputException.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.duke;
 
 import org.junit.jupiter.api.Test;
 import seedu.duke.command.ListCommand;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 
 import java.util.HashMap;
@@ -23,14 +24,16 @@ public class ListCommandTest {
 
         final ByteArrayOutputStream myOut = new ByteArrayOutputStream();
         System.setOut(new PrintStream(myOut));
-        listCommand.execute();
+        assertDoesNotThrow(() -> {
+            listCommand.execute();
+        });
         final String standardOutput = myOut.toString();
 
         assertEquals(Constants.EMPTY_LIST_MESSAGE + System.lineSeparator(), standardOutput);
     }
 
     @Test
-    public void executeListCommand() {
+    public void executeListCommand() throws StorageException {
         Data data = new Data();
         Ui ui = new Ui();
         HashMap<String, String> arguments = new HashMap<>();
@@ -52,4 +55,66 @@ public class ListCommandTest {
                 + "1. S1234567D" + System.lineSeparator(), bos.toString());
         System.setOut(originalOut);
     }
+
+    @Test
+    public void executeListCommand_prefixAndLimit_firstPagePrinted() throws StorageException {
+        Data data = new Data();
+        data.setPatient(new Patient("G1234567X"));
+        data.setPatient(new Patient("S1234567D"));
+        data.setPatient(new Patient("S1234568B"));
+        data.setPatient(new Patient("S7654321F"));
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "list");
+        arguments.put("payload", "s1");
+        arguments.put(Constants.LIMIT_KEY, "1");
+        ListCommand listCommand = new ListCommand(new Ui(), data, arguments);
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            listCommand.execute();
+            // The next page starts after the last patient of this page
+            arguments.put(Constants.AFTER_KEY, "S1234567D");
+            listCommand.execute();
+            arguments.put(Constants.AFTER_KEY, "S1234568B");
+            listCommand.execute();
+        });
+
+        assertEquals("List of patients (in alphanumeric order):" + System.lineSeparator()
+                + "1. S1234567D" + System.lineSeparator()
+                + String.format(Constants.LIST_NEXT_PAGE_MESSAGE, "S1234567D") + System.lineSeparator()
+                + "List of patients (in alphanumeric order):" + System.lineSeparator()
+                + "1. S1234568B" + System.lineSeparator()
+                + Constants.NO_MATCHING_PATIENTS_MESSAGE + System.lineSeparator(), bos.toString());
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void executeListCommand_range_patientsInRangePrinted() throws StorageException {
+        Data data = new Data();
+        data.setPatient(new Patient("G1234567X"));
+        data.setPatient(new Patient("S1234567D"));
+        data.setPatient(new Patient("S7654321F"));
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "list");
+        arguments.put("payload", "");
+        arguments.put(Constants.START_KEY, "S");
+        arguments.put(Constants.END_KEY, "S7654321F");
+        ListCommand listCommand = new ListCommand(new Ui(), data, arguments);
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            listCommand.execute();
+        });
+
+        assertEquals("List of patients (in alphanumeric order):" + System.lineSeparator()
+                + "1. S1234567D" + System.lineSeparator()
+                + "2. S7654321F" + System.lineSeparator(), bos.toString());
+        System.setOut(originalOut);
+    }
 }
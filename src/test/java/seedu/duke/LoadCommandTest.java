@@ -10,11 +10,12 @@ import java.util.HashMap;
 
 import seedu.duke.command.LoadCommand;
 import seedu.duke.exception.DataException;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 
 public class LoadCommandTest {
     @Test
-    public void executeLoadCommand() {
+    public void executeLoadCommand() throws StorageException {
         Data data = new Data();
         HashMap<String, String> arguments = new HashMap<>();
         arguments.put("command", "load");
@@ -29,7 +30,7 @@ public class LoadCommandTest {
     }
 
     @Test
-    public void executeLoadCommand_unknownParient_exceptionThrown() {
+    public void executeLoadCommand_unknownParient_exceptionThrown() throws StorageException {
         Data data = new Data();
         HashMap<String, String> arguments = new HashMap<>();
         arguments.put("command", "load");
@@ -0,0 +1,55 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.InvalidInputException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NricTest {
+    @Test
+    public void pack_validNric_unpackedToSameString() {
+        for (String id : Arrays.asList("S1234567D", "G1234567X", "S7654321F", "T1234567J", "S1234568B")) {
+            long value = Nric.pack(id);
+            assertTrue(value >= 0);
+            assertEquals(id, Nric.unpack(value));
+        }
+    }
+
+    @Test
+    public void checkID_invalidNric_exceptionThrown() {
+        assertThrows(InvalidInputException.class, () -> Common.checkID("S12345677A"));
+        assertThrows(InvalidInputException.class, () -> Common.checkID("P1234567A"));
+        assertThrows(InvalidInputException.class, () -> Common.checkID("S1234567A"));
+        assertThrows(InvalidInputException.class, () -> Common.checkID("S12E4567D"));
+        // Full-width digits have the same checksum, but cannot be packed
+        assertThrows(InvalidInputException.class, () -> Common.checkID("S\uff11234567D"));
+        assertEquals(Nric.NOT_PACKED, Nric.pack("S1234567"));
+        assertEquals(Nric.NOT_PACKED, Nric.pack("s1234567d"));
+    }
+
+    @Test
+    public void pack_anyIDs_sameOrderAsStrings() {
+        List<String> ids = Arrays.asList("T0000000A", "S9999999Z", "G1234567X", "S1234567D", "S1234567C", "F0000001A",
+                "S0234567D", "Z9999999Z", "A0000000A");
+        List<String> sortedIDs = new ArrayList<>(ids);
+        Collections.sort(sortedIDs);
+        List<Long> keys = new ArrayList<>();
+        for (String id : ids) {
+            keys.add(Nric.pack(id));
+        }
+        Collections.sort(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(sortedIDs.get(i), Nric.unpack(keys.get(i)));
+        }
+        assertTrue(Nric.compare(Nric.pack("S1234567D"), "S12") > 0);
+        assertTrue(Nric.compare(Nric.pack("S1234567D"), "S2") < 0);
+        assertEquals(0, Nric.compare(Nric.pack("S1234567D"), "S1234567D"));
+    }
+}
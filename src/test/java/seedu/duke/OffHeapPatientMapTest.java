@@ -0,0 +1,125 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.DataException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapPatientMapTest {
+    private static final LocalDate DATE = LocalDate.of(2021, 3, 31);
+
+    @Test
+    public void put_patientsInAnyOrder_readBackInIDOrder() throws StorageException {
+        OffHeapPatientMap patients = new OffHeapPatientMap();
+        Patient patient = new Patient("S7654321F");
+        patient.addRecord(DATE, "fever", "flu", "rest");
+        patient.addRecord(DATE.minusDays(1), "coughing", null, null);
+        patients.put(patient.getID(), patient);
+        patients.put("S1234567D", new Patient("S1234567D"));
+        patients.put("G1234567X", new Patient("G1234567X"));
+
+        assertEquals(Arrays.asList("G1234567X", "S1234567D", "S7654321F"), new ArrayList<>(patients.keySet()));
+        assertEquals(patient.getRecord(), patients.get("S7654321F").getRecord());
+        assertEquals(Arrays.asList("S1234567D", "S7654321F"), new ArrayList<>(patients.tailMap("S").keySet()));
+        assertEquals(1, patients.subMap("S", "S7").size());
+        assertEquals("G1234567X", patients.firstKey());
+        assertEquals("S7654321F", patients.headMap("T").lastKey());
+        assertNull(patients.get("T1234567J"));
+        assertNull(patients.get("S123"));
+        assertThrows(IllegalArgumentException.class, () -> patients.put("S123", new Patient("S123")));
+    }
+
+    @Test
+    public void remove_manyChanges_otherPatientsKept() throws StorageException {
+        OffHeapPatientMap patients = new OffHeapPatientMap();
+        for (int i = 0; i < 2000; i++) {
+            Patient patient = new Patient(String.format("S%07dA", i));
+            patient.addRecord(DATE, "fever", null, null);
+            patients.put(patient.getID(), patient);
+        }
+        // Enough entries are replaced and removed for the space of the old entries to be reclaimed
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 2000; i++) {
+                Patient patient = patients.get(String.format("S%07dA", i));
+                patient.addRecord(DATE.plusDays(round + 1), "coughing", "flu", "rest");
+                patients.put(patient.getID(), patient);
+            }
+        }
+        Iterator<String> ids = patients.keySet().iterator();
+        while (ids.hasNext()) {
+            if (ids.next().endsWith("1A")) {
+                ids.remove();
+            }
+        }
+        for (int i = 0; i < 2000; i += 2) {
+            assertNotNull(patients.remove(String.format("S%07dA", i)));
+        }
+
+        assertEquals(800, patients.size());
+        assertFalse(patients.containsKey("S0000001A"));
+        assertFalse(patients.containsKey("S0000002A"));
+        assertTrue(patients.containsKey("S0000003A"));
+        assertEquals(6, patients.get("S0001999A").getRecords().size());
+        assertEquals("S0000003A", patients.firstKey());
+        assertEquals("S0001999A", patients.lastKey());
+    }
+
+    @Test
+    public void set_existingPatient_replacedInPlace() throws StorageException {
+        OffHeapPatientMap patients = new OffHeapPatientMap();
+        patients.set("S1234567D", new Patient("S1234567D"));
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(DATE, "fever", null, null);
+        patients.set(patient.getID(), patient);
+
+        assertEquals(1, patients.size());
+        assertEquals(patient.getRecord(), patients.get("S1234567D").getRecord());
+        assertTrue(OffHeapPatientMap.canStore("S1234567D"));
+        assertFalse(OffHeapPatientMap.canStore("S123"));
+        assertThrows(IllegalArgumentException.class, () -> patients.set("S123", new Patient("S123")));
+    }
+
+    @Test
+    public void checkStorable_idNotPacked_exceptionThrownBeforeAnyChange() {
+        Data data = new Data(null, new OffHeapPatientMap());
+
+        assertThrows(DataException.class, () -> data.checkStorable("S123"));
+        assertDoesNotThrow(() -> data.checkStorable("S1234567D"));
+        assertDoesNotThrow(() -> new Data().checkStorable("S123"));
+    }
+
+    @Test
+    public void addRecord_offHeapPatientList_sameAsOnHeap() throws Exception {
+        SortedMap<String, Patient> patients = new OffHeapPatientMap();
+        Data data = new Data(null, patients);
+        data.addPatient("S1234567D");
+        data.loadPatient("S1234567D");
+        data.addRecord(DATE, "fever", null, null);
+        data.addRecord(DATE.plusDays(1), null, "flu", null);
+        data.deleteRecord(DATE);
+        data.loadPatient("S1234567D");
+
+        assertEquals(1, data.getPatient("S1234567D").getRecords().size());
+        assertEquals("Here are S1234567D's records:" + System.lineSeparator()
+                + "01/04/2021:" + System.lineSeparator()
+                + "Diagnoses:" + System.lineSeparator()
+                + Constants.INDENT + "flu" + System.lineSeparator(), data.getRecords());
+        data.deletePatient("S1234567D");
+        assertThrows(DataException.class, () -> data.loadPatient("S1234567D"));
+        assertTrue(patients.isEmpty());
+    }
+}
@@ -14,7 +14,10 @@ import java.util.TreeMap;
 import org.junit.jupiter.api.Test;
 
 import seedu.duke.command.Command;
+import seedu.duke.command.CommandRegistry;
 import seedu.duke.command.EchoCommand;
+import seedu.duke.command.ListCommand;
+import seedu.duke.command.MalformedCommand;
 import seedu.duke.exception.InvalidInputException;
 import seedu.duke.exception.UnknownException;
 import seedu.duke.model.Patient;
@@ -24,9 +27,11 @@ public class ParserTest {
     HashMap<String, String> sampleArguments = new HashMap<>();
 
     /**
-     * This is the constructor for this class. This sets a sample arguments hashmap.
+     * This is the constructor for this class. This registers the test commands and sets a sample arguments hashmap.
      */
     public ParserTest() {
+        CommandRegistry.register("echo", EchoCommand::new);
+        CommandRegistry.register("malformed", MalformedCommand::new);
         sampleArguments.put("command", "echo");
         sampleArguments.put("payload", "pVal1 pVal2");
         sampleArguments.put("keyA", "valA");
@@ -88,6 +93,26 @@ public class ParserTest {
         assertEquals(Constants.INVALID_INPUT_UNKNOWN_COMMAND, e.getMessage());
     }
 
+    /**
+     * This test case checks that unknown commands are rejected every time they are given, and that built-in commands
+     * are created from the registry.
+     */
+    @Test
+    public void parse_repeatedCommands_sameResults() {
+        for (int i = 0; i < 2; i++) {
+            InvalidInputException e = assertThrows(InvalidInputException.class, () -> {
+                parser.parse("invalid_command");
+            });
+            assertEquals(Constants.INVALID_INPUT_UNKNOWN_COMMAND, e.getMessage());
+            assertThrows(UnknownException.class, () -> {
+                parser.parse("malformed");
+            });
+            assertDoesNotThrow(() -> {
+                assertTrue(parser.parse("LIST") instanceof ListCommand);
+            });
+        }
+    }
+
     /**
      * This test case tests whether a normal command (with or w/o leading/trailing spaces) can be parsed.
      */
@@ -103,6 +128,8 @@ public class ParserTest {
         checkAgainstSampleArguments(fullCommand1);
         checkAgainstSampleArguments(fullCommand2);
         checkAgainstSampleArguments(fullCommand3);
+        // Command separated by other whitespaces
+        checkAgainstSampleArguments("\techo pVal1\tpVal2 /keyA\fvalA /keyB valB1\r\nvalB2 /keyC\n");
     }
 
     /**
@@ -3,12 +3,11 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 import seedu.duke.command.RecordCommand;
 import seedu.duke.exception.DataException;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
-import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
 
-import java.time.LocalDate;
 import java.util.HashMap;
-import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -16,7 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class RecordCommandTest {
     @Test
-    public void executeRecordCommand_noPatientLoaded_exceptionThrown() {
+    public void executeRecordCommand_noPatientLoaded_exceptionThrown() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -33,7 +32,7 @@ class RecordCommandTest {
     }
 
     @Test
-    public void executeRecordCommand_noDetailsSpecified_exceptionThrown() {
+    public void executeRecordCommand_noDetailsSpecified_exceptionThrown() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -50,7 +49,7 @@ class RecordCommandTest {
     }
 
     @Test
-    public void executeRecordCommand_onlySymptom_recordAdded() {
+    public void executeRecordCommand_onlySymptom_recordAdded() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -64,12 +63,12 @@ class RecordCommandTest {
         assertDoesNotThrow(() -> {
             recordCommand.execute();
         });
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         assertEquals(1, records.size());
     }
 
     @Test
-    public void executeRecordCommand_onlyDiagnosis_recordAdded() {
+    public void executeRecordCommand_onlyDiagnosis_recordAdded() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -83,12 +82,12 @@ class RecordCommandTest {
         assertDoesNotThrow(() -> {
             recordCommand.execute();
         });
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         assertEquals(1, records.size());
     }
 
     @Test
-    public void executeRecordCommand_onlyPrescription_recordAdded() {
+    public void executeRecordCommand_onlyPrescription_recordAdded() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -102,12 +101,12 @@ class RecordCommandTest {
         assertDoesNotThrow(() -> {
             recordCommand.execute();
         });
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         assertEquals(1, records.size());
     }
 
     @Test
-    public void executeRecordCommand_symptomAndDiagnosis_recordAdded() {
+    public void executeRecordCommand_symptomAndDiagnosis_recordAdded() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -122,12 +121,12 @@ class RecordCommandTest {
         assertDoesNotThrow(() -> {
             recordCommand.execute();
         });
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         assertEquals(1, records.size());
     }
 
     @Test
-    public void executeRecordCommand_symptomAndPrescription_recordAdded() {
+    public void executeRecordCommand_symptomAndPrescription_recordAdded() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -142,12 +141,12 @@ class RecordCommandTest {
         assertDoesNotThrow(() -> {
             recordCommand.execute();
         });
-        TreeMap<LocalDate, Record> records = patient.getRecords();
+        RecordMap records = patient.getRecords();
         assertEquals(1, records.size());
     }
 
     @Test
-    public void executeRecordCommand_emptyStringAsInputs_exceptionThrown() {
+    public void executeRecordCommand_emptyStringAsInputs_exceptionThrown() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -0,0 +1,55 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.RecordIndex;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordIndexTest {
+    private static final LocalDate DATE = LocalDate.of(2021, 3, 31);
+
+    @Test
+    public void normalize_whitespaces_replacedBySingleSpace() {
+        assertEquals("high fever", RecordIndex.normalize("High\tFever"));
+        assertEquals("high fever", RecordIndex.normalize("  high \n fever  "));
+        assertEquals("high fever", RecordIndex.normalize("high fever"));
+    }
+
+    @Test
+    public void find_detailWithTab_sameVisitFound() {
+        RecordIndex index = new RecordIndex();
+        index.addDetail(RecordIndex.Field.SYMPTOM, "high fever", "S1234567D", DATE);
+
+        List<RecordIndex.Visit> visits = index.find(null, "High\tFever", null, null);
+        assertEquals(1, visits.size());
+        assertEquals("S1234567D", visits.get(0).getID());
+        assertEquals(DATE, visits.get(0).getDate());
+    }
+
+    @Test
+    public void search_severalPrefixes_onlyVisitsWithAllWords() {
+        RecordIndex index = new RecordIndex();
+        LocalDate earlierDate = DATE.minusDays(1);
+        index.addDetail(RecordIndex.Field.SYMPTOM, "high fever", "S1234567D", DATE);
+        index.addDetail(RecordIndex.Field.PRESCRIPTION, "paracetamol", "S1234567D", DATE);
+        index.addDetail(RecordIndex.Field.SYMPTOM, "fever", "S7654321F", DATE);
+        index.addDetail(RecordIndex.Field.SYMPTOM, "feverish", "S7654321F", earlierDate);
+        index.addDetail(RecordIndex.Field.PRESCRIPTION, "panadol", "S7654321F", earlierDate);
+
+        List<RecordIndex.Visit> visits = index.search("fev pa", null, null, 10);
+        assertEquals(2, visits.size());
+        assertEquals("S1234567D", visits.get(0).getID());
+        assertEquals(DATE, visits.get(0).getDate());
+        assertEquals("S7654321F", visits.get(1).getID());
+        assertEquals(earlierDate, visits.get(1).getDate());
+
+        // A query word which is a prefix of another query word adds nothing to the search
+        assertEquals(3, index.search("fe fever", null, null, 10).size());
+        assertEquals(1, index.search("fever para", null, null, 10).size());
+        assertEquals(1, index.search("fev pa", null, null, 1).size());
+        assertEquals(0, index.search("fever aspirin", null, null, 10).size());
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.Record;
+import seedu.duke.model.RecordMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordMapTest {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2021, 3, 1);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2021, 3, 15);
+    private static final LocalDate THIRD_DATE = LocalDate.of(2021, 4, 2);
+
+    @Test
+    public void put_datesInAnyOrder_iteratedInDateOrder() {
+        RecordMap records = new RecordMap();
+        Record record = new Record();
+        records.put(THIRD_DATE, new Record());
+        records.put(FIRST_DATE, record);
+        records.put(SECOND_DATE, new Record());
+        assertEquals(Arrays.asList(FIRST_DATE, SECOND_DATE, THIRD_DATE), new ArrayList<>(records.keySet()));
+        assertSame(record, records.get(FIRST_DATE));
+        assertSame(record, records.put(FIRST_DATE, new Record()));
+        assertEquals(3, records.size());
+        assertNull(records.get(LocalDate.of(2021, 3, 2)));
+    }
+
+    @Test
+    public void getRange_boundsInclusive_onlyVisitsWithinRange() {
+        RecordMap records = new RecordMap();
+        records.put(FIRST_DATE, new Record());
+        records.put(SECOND_DATE, new Record());
+        records.put(THIRD_DATE, new Record());
+        assertEquals(Arrays.asList(FIRST_DATE, SECOND_DATE), getDates(records.getRange(null, SECOND_DATE)));
+        assertEquals(Arrays.asList(SECOND_DATE, THIRD_DATE), getDates(records.getRange(SECOND_DATE, null)));
+        assertEquals(0, records.getRange(THIRD_DATE, FIRST_DATE).size());
+        assertEquals(Arrays.asList(SECOND_DATE, THIRD_DATE), getDates(records.getLast(2)));
+        assertEquals(3, records.getLast(10).size());
+    }
+
+    @Test
+    public void iteratorRemove_middleVisit_otherVisitsKept() {
+        RecordMap records = new RecordMap();
+        records.put(FIRST_DATE, new Record());
+        records.put(SECOND_DATE, new Record());
+        records.put(THIRD_DATE, new Record());
+        Iterator<LocalDate> dates = records.keySet().iterator();
+        while (dates.hasNext()) {
+            if (dates.next().equals(SECOND_DATE)) {
+                dates.remove();
+            }
+        }
+        assertEquals(Arrays.asList(FIRST_DATE, THIRD_DATE), new ArrayList<>(records.keySet()));
+        assertNull(records.remove(SECOND_DATE));
+    }
+
+    @Test
+    public void entrySetValue_mapChanged_exceptionThrown() {
+        RecordMap records = new RecordMap();
+        records.put(FIRST_DATE, new Record());
+        records.put(THIRD_DATE, new Record());
+        Map.Entry<LocalDate, Record> entry = records.entrySet().iterator().next();
+        Record record = new Record();
+        entry.setValue(record);
+        assertSame(record, records.get(FIRST_DATE));
+
+        // The new visit comes first, so the entry's visit is no longer at the same index
+        records.put(LocalDate.of(2021, 2, 1), new Record());
+        assertThrows(ConcurrentModificationException.class, () -> entry.setValue(new Record()));
+        assertSame(record, records.get(FIRST_DATE));
+        assertSame(record, entry.getValue());
+    }
+
+    private static List<LocalDate> getDates(List<Map.Entry<LocalDate, Record>> entries) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (Map.Entry<LocalDate, Record> entry : entries) {
+            dates.add(entry.getKey());
+        }
+        return dates;
+    }
+}
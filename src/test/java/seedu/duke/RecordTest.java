@@ -0,0 +1,47 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.model.Record;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordTest {
+    @Test
+    public void addDetails_detailsInAnyOrder_keptInOrderWithoutDuplicates() {
+        Record record = new Record();
+        record.addDetails(null, null, "rest");
+        record.addDetails("fever", "flu", null);
+        record.addDetails("coughing", "flu", "rest");
+        record.addDetails("fever", null, "paracetamol");
+        assertEquals(Arrays.asList("fever", "coughing"), record.getSymptoms());
+        assertEquals(Collections.singletonList("flu"), record.getDiagnoses());
+        assertEquals(Arrays.asList("rest", "paracetamol"), record.getPrescriptions());
+
+        Record otherRecord = new Record();
+        otherRecord.addDetails(null, "cold", "rest");
+        otherRecord.addDetails("headache", null, null);
+        record.addDetails(otherRecord);
+        assertEquals(Arrays.asList("fever", "coughing", "headache"), record.getSymptoms());
+        assertEquals(Arrays.asList("flu", "cold"), record.getDiagnoses());
+        assertEquals(Arrays.asList("rest", "paracetamol"), record.getPrescriptions());
+    }
+
+    @Test
+    public void getCodes_recordFromCodes_sameCodesReturned() {
+        Record record = new Record(new int[0], new int[] {3, 1}, new int[] {2});
+        assertEquals(0, record.getSymptomCodes().length);
+        assertEquals("[3, 1]", Arrays.toString(record.getDiagnosisCodes()));
+        assertEquals("[2]", Arrays.toString(record.getPrescriptionCodes()));
+
+        assertEquals(0, record.getSymptomCount());
+        assertEquals(2, record.getDiagnosisCount());
+        assertEquals(1, record.getPrescriptionCount());
+        assertEquals(3, record.getCodeCount());
+        assertEquals(3, record.getCodeAt(0));
+        assertEquals(1, record.getCodeAt(1));
+        assertEquals(2, record.getCodeAt(2));
+    }
+}
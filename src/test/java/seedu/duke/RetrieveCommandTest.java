@@ -3,10 +3,13 @@ package seedu.duke;
 import org.junit.jupiter.api.Test;
 import seedu.duke.command.RecordCommand;
 import seedu.duke.command.RetrieveCommand;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -15,7 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class RetrieveCommandTest {
     @Test
-    public void executeRetrieveCommand_noPatientLoaded_exceptionThrown() {
+    public void executeRetrieveCommand_noPatientLoaded_exceptionThrown() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -32,7 +35,7 @@ class RetrieveCommandTest {
     }
 
     @Test
-    public void executeRetrieveCommand_patientLoadedAndRecordsAdded_printsRecords() {
+    public void executeRetrieveCommand_patientLoadedAndRecordsAdded_printsRecords() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -74,7 +77,7 @@ class RetrieveCommandTest {
     }
 
     @Test
-    public void executeRetrieveCommand_partialRecordAdded_printsSpecifiedFields() {
+    public void executeRetrieveCommand_partialRecordAdded_printsSpecifiedFields() throws StorageException {
         Data data = new Data();
         Patient patient = new Patient("S1234567D");
         data.setPatient(patient);
@@ -111,4 +114,59 @@ class RetrieveCommandTest {
         // Bind System.out back to standard output
         System.setOut(originalOut);
     }
+
+    @Test
+    public void executeRetrieveCommand_dateRangeAndLastVisits_printsRecordsInRange() throws StorageException {
+        Data data = new Data();
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(LocalDate.of(2021, 3, 1), "fever", null, null);
+        patient.addRecord(LocalDate.of(2021, 3, 15), "coughing", null, null);
+        patient.addRecord(LocalDate.of(2021, 3, 31), "headache", null, null);
+        data.setPatient(patient);
+        data.loadCurrentPatient(patient.getID());
+        Ui ui = new Ui();
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            HashMap<String, String> arguments = new HashMap<>();
+            arguments.put("command", "retrieve");
+            arguments.put("payload", "");
+            arguments.put(Constants.FROM_KEY, "01/03/2021");
+            arguments.put(Constants.TO_KEY, "15/03/2021");
+            new RetrieveCommand(ui, data, arguments).execute();
+            arguments.remove(Constants.FROM_KEY);
+            arguments.remove(Constants.TO_KEY);
+            arguments.put(Constants.LAST_KEY, "1");
+            new RetrieveCommand(ui, data, arguments).execute();
+        });
+        String expected = "Here are S1234567D's records:" + System.lineSeparator()
+                + "01/03/2021:" + System.lineSeparator()
+                + "Symptoms:" + System.lineSeparator()
+                + "\tfever" + System.lineSeparator()
+                + "15/03/2021:" + System.lineSeparator()
+                + "Symptoms:" + System.lineSeparator()
+                + "\tcoughing" + System.lineSeparator() + System.lineSeparator()
+                + "Here are S1234567D's records:" + System.lineSeparator()
+                + "31/03/2021:" + System.lineSeparator()
+                + "Symptoms:" + System.lineSeparator()
+                + "\theadache" + System.lineSeparator() + System.lineSeparator();
+        assertEquals(expected, bos.toString());
+
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void executeRetrieveCommand_dateAndLastVisits_exceptionThrown() {
+        Data data = new Data();
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "retrieve");
+        arguments.put("payload", "31/03/2021");
+        arguments.put(Constants.LAST_KEY, "2");
+        RetrieveCommand retrieveCommand = new RetrieveCommand(new Ui(), data, arguments);
+        Exception exception = assertThrows(InvalidInputException.class, retrieveCommand::execute);
+        assertEquals(Constants.INVALID_INPUT_INVALID_RETRIEVE_ARGUMENTS, exception.getMessage());
+    }
 }
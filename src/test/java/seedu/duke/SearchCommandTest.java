@@ -0,0 +1,83 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.SearchCommand;
+import seedu.duke.exception.InvalidInputException;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchCommandTest {
+    @Test
+    public void executeSearchCommand_prefixesOfWords_printsVisitsMostRecentFirst() throws StorageException {
+        Data data = new Data();
+        Patient first = new Patient("S1234567D");
+        first.addRecord(LocalDate.of(2021, 3, 1), "fever", null, "Paracetamol 500mg");
+        first.addRecord(LocalDate.of(2021, 3, 15), "coughing", null, "paracetamol 200mg");
+        data.setPatient(first);
+        Patient second = new Patient("G1234567X");
+        second.addRecord(LocalDate.of(2021, 3, 10), null, "parasitic infection", null);
+        data.setPatient(second);
+        Ui ui = new Ui();
+
+        final PrintStream originalOut = System.out;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bos));
+
+        assertDoesNotThrow(() -> {
+            HashMap<String, String> arguments = new HashMap<>();
+            arguments.put("command", "search");
+            arguments.put("payload", "para");
+            new SearchCommand(ui, data, arguments).execute();
+            arguments.put("payload", "PARA 500");
+            new SearchCommand(ui, data, arguments).execute();
+            arguments.put("payload", "para");
+            arguments.put(Constants.LIMIT_KEY, "1");
+            arguments.put(Constants.TO_KEY, "14/03/2021");
+            new SearchCommand(ui, data, arguments).execute();
+        });
+        String expected = "Visits matching \"para\" (most recent first):" + System.lineSeparator()
+                + "1. 15/03/2021 S1234567D" + System.lineSeparator()
+                + "2. 10/03/2021 G1234567X" + System.lineSeparator()
+                + "3. 01/03/2021 S1234567D" + System.lineSeparator()
+                + "Visits matching \"PARA 500\" (most recent first):" + System.lineSeparator()
+                + "1. 01/03/2021 S1234567D" + System.lineSeparator()
+                + "Visits matching \"para\" (most recent first):" + System.lineSeparator()
+                + "1. 10/03/2021 G1234567X" + System.lineSeparator();
+        assertEquals(expected, bos.toString());
+
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void executeSearchCommand_recordAddedAfterSearch_recordFound() throws Exception {
+        Data data = new Data();
+        Patient patient = new Patient("S1234567D");
+        data.setPatient(patient);
+        assertEquals(0, data.searchRecords("ibu", null, null, Integer.MAX_VALUE).size());
+
+        data.loadCurrentPatient(patient.getID());
+        data.addRecord(LocalDate.of(2021, 3, 15), null, null, "ibuprofen 200mg");
+        assertEquals(1, data.searchRecords("ibu", null, null, Integer.MAX_VALUE).size());
+        data.deleteRecord(LocalDate.of(2021, 3, 15));
+        assertEquals(0, data.searchRecords("ibu", null, null, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void executeSearchCommand_noWords_exceptionThrown() {
+        HashMap<String, String> arguments = new HashMap<>();
+        arguments.put("command", "search");
+        arguments.put("payload", " ,; ");
+        SearchCommand searchCommand = new SearchCommand(new Ui(), new Data(), arguments);
+        Exception exception = assertThrows(InvalidInputException.class, searchCommand::execute);
+        assertEquals(Constants.INVALID_INPUT_INVALID_SEARCH_QUERY, exception.getMessage());
+    }
+}
@@ -1,22 +1,35 @@
 package seedu.duke;
 
 import org.junit.jupiter.api.Test;
+import seedu.duke.exception.DataException;
+import seedu.duke.exception.StorageException;
 import seedu.duke.model.Patient;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StorageTest {
     public static final String TEST_FILE = "testFile.txt";
+    public static final String JOURNAL_TEST_FILE = "journalTestFile.txt";
+    public static final String SHARDED_TEST_DIRECTORY = "shardedTestDirectory";
 
     @Test
-    public void storeData() {
+    public void storeData() throws StorageException {
         Storage storage = new Storage(TEST_FILE);
         Data data = new Data(storage);
         Patient patient = new Patient("S1234567D");
@@ -53,5 +66,243 @@ public class StorageTest {
                 + "S7654321F" + System.lineSeparator(), bos.toString());
         System.setOut(originalOut);
     }
+
+    @Test
+    public void saveFile_changesAfterSnapshot_replayedFromJournal() {
+        new File(JOURNAL_TEST_FILE).delete();
+        new File(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX).delete();
+        Data data = new Data(new Storage(JOURNAL_TEST_FILE));
+        LocalDate date = LocalDate.of(2021, 3, 31);
+
+        assertDoesNotThrow(() -> {
+            // The first save writes a full snapshot, as there is no save file yet
+            data.addPatient("S1234567D");
+            data.addPatient("S7654321F");
+            data.saveFile();
+            data.loadCurrentPatient("S1234567D");
+            data.addRecord(date, "coughing", null, null);
+            data.addRecord(date, null, "cold", null);
+            data.deletePatient("S7654321F");
+            data.saveFile();
+        });
+        assertTrue(new File(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX).exists());
+
+        assertDoesNotThrow(() -> {
+            SortedMap<String, Patient> patients = new Storage(JOURNAL_TEST_FILE).load();
+            assertEquals(1, patients.size());
+            assertFalse(patients.containsKey("S7654321F"));
+            assertEquals("Symptoms:" + System.lineSeparator()
+                    + "\tcoughing" + System.lineSeparator()
+                    + "Diagnoses:" + System.lineSeparator()
+                    + "\tcold" + System.lineSeparator(),
+                    patients.get("S1234567D").getRecords().get(date).toString());
+        });
+    }
+
+    @Test
+    public void saveFile_afterTruncatedJournalEntry_newEntriesReplayed() throws Exception {
+        new File(JOURNAL_TEST_FILE).delete();
+        new File(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX).delete();
+        Data data = new Data(new Storage(JOURNAL_TEST_FILE));
+        LocalDate date = LocalDate.of(2021, 3, 31);
+        data.addPatient("S1234567D");
+        data.saveFile();
+        data.loadCurrentPatient("S1234567D");
+        data.addRecord(date, "coughing", null, null);
+        data.saveFile();
+        // The program was killed halfway through appending an entry
+        FileWriter journalWriter = new FileWriter(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX, true);
+        journalWriter.write("A~~S1234567D~~31/03/20");
+        journalWriter.close();
+
+        Storage storage = new Storage(JOURNAL_TEST_FILE);
+        Data restartedData = new Data(storage, storage.load());
+        restartedData.loadCurrentPatient("S1234567D");
+        restartedData.addRecord(date, "headache", null, null);
+        restartedData.addPatient("S7654321F");
+        restartedData.saveFile();
+
+        SortedMap<String, Patient> patients = new Storage(JOURNAL_TEST_FILE).load();
+        assertTrue(patients.containsKey("S7654321F"));
+        assertEquals("Symptoms:" + System.lineSeparator()
+                + "\tcoughing" + System.lineSeparator()
+                + "\theadache" + System.lineSeparator(),
+                patients.get("S1234567D").getRecords().get(date).toString());
+    }
+
+    @Test
+    public void load_journalOfOlderGeneration_journalDiscarded() {
+        assertDoesNotThrow(() -> {
+            FileWriter saveWriter = new FileWriter(JOURNAL_TEST_FILE);
+            saveWriter.write(Constants.GENERATION_HEADER + "2\nS1234567D~~\n");
+            saveWriter.close();
+            // Entries of generation 1 have already been folded into the save file
+            FileWriter journalWriter = new FileWriter(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX);
+            journalWriter.write(Constants.GENERATION_HEADER + "1\nD~~S1234567D~~\n");
+            journalWriter.close();
+
+            SortedMap<String, Patient> patients = new Storage(JOURNAL_TEST_FILE).load();
+            assertTrue(patients.containsKey("S1234567D"));
+        });
+        assertFalse(new File(JOURNAL_TEST_FILE + Constants.JOURNAL_FILE_SUFFIX).exists());
+    }
+
+    @Test
+    public void convertStringToRecords_convertedRecords_matchOriginal() throws StorageException {
+        Storage storage = new Storage(TEST_FILE);
+        Patient patient = new Patient("S1234567D");
+        LocalDate date = LocalDate.of(2021, 3, 31);
+        patient.addRecord(date, "head pain", null, "cooling packs");
+        patient.addRecord(date, "dizziness", null, null);
+        patient.addRecord(date.plus(1, ChronoUnit.DAYS), null, "heat stroke", null);
+        String recordString = storage.convertRecordToString(patient);
+
+        assertDoesNotThrow(() -> {
+            Patient convertedPatient = new Patient("S1234567D", storage.convertStringToRecords(recordString));
+            assertEquals(patient.getRecord(), convertedPatient.getRecord());
+        });
+    }
+
+    @Test
+    public void load_binaryFormat_sameAsTextFormat() throws StorageException {
+        Storage storage = new Storage(TEST_FILE);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        Patient patient = new Patient("S1234567D");
+        LocalDate date = LocalDate.of(2021, 3, 31);
+        patient.addRecord(date, "fever", "flu", "paracetamol");
+        patient.addRecord(date.plus(1, ChronoUnit.DAYS), "fever", null, null);
+        patients.put(patient.getID(), patient);
+        patients.put("S7654321F", new Patient("S7654321F"));
+
+        assertDoesNotThrow(() -> {
+            storage.setFormat(Storage.Format.BINARY);
+            storage.save(patients);
+
+            // A new storage instance should detect the format from the file
+            Storage newStorage = new Storage(TEST_FILE);
+            SortedMap<String, Patient> loadedPatients = newStorage.load();
+            assertEquals(Storage.Format.BINARY, newStorage.getFormat());
+            assertEquals(patients.keySet(), loadedPatients.keySet());
+            assertEquals(patient.getRecord(), loadedPatients.get("S1234567D").getRecord());
+
+            storage.setFormat(Storage.Format.TEXT);
+            storage.save(patients);
+        });
+    }
+
+    @Test
+    public void load_patientsNotAccessed_recordsLoadedOnlyWhenNeeded() throws StorageException {
+        Storage storage = new Storage(TEST_FILE);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        Patient patient = new Patient("S1234567D");
+        LocalDate date = LocalDate.of(2021, 3, 31);
+        patient.addRecord(date, "fever", "flu", "paracetamol");
+        patients.put(patient.getID(), patient);
+        Patient otherPatient = new Patient("S7654321F");
+        otherPatient.addRecord(date, "coughing", null, null);
+        patients.put(otherPatient.getID(), otherPatient);
+
+        assertDoesNotThrow(() -> {
+            storage.save(patients);
+            assertTrue(new File(TEST_FILE + Constants.INDEX_FILE_SUFFIX).exists());
+
+            Storage newStorage = new Storage(TEST_FILE);
+            SortedMap<String, Patient> loadedPatients = newStorage.load();
+            assertFalse(loadedPatients.get("S1234567D").isLoaded());
+            assertEquals(patient.getRecord(), loadedPatients.get("S1234567D").getRecord());
+            assertTrue(loadedPatients.get("S1234567D").isLoaded());
+            assertFalse(loadedPatients.get("S7654321F").isLoaded());
+
+            // Records which were never loaded are copied into the next snapshot as they are
+            newStorage.save(loadedPatients);
+            assertEquals(otherPatient.getRecord(), new Storage(TEST_FILE).load().get("S7654321F").getRecord());
+        });
+    }
+    @Test
+    public void getRecords_corruptedRecords_storageExceptionThrown() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(LocalDate.of(2021, 3, 31), "fever", "flu", "paracetamol");
+        patients.put(patient.getID(), patient);
+        storage.save(patients);
+        // The length of the save file is kept, so the index still matches it
+        Path savePath = Paths.get(TEST_FILE);
+        Files.writeString(savePath, Files.readString(savePath).replace("31/03/2021", "31/13/2021"));
+
+        Storage newStorage = new Storage(TEST_FILE);
+        Data data = new Data(newStorage, newStorage.load());
+        data.loadPatient("S1234567D");
+        assertThrows(StorageException.class, data::getRecords);
+        assertThrows(StorageException.class, () -> data.findRecords(null, "fever", null, null));
+    }
+
+    @Test
+    public void saveFile_shardedStorage_onlyChangedShardsWritten() {
+        File directory = new File(SHARDED_TEST_DIRECTORY);
+        File[] oldFiles = directory.listFiles();
+        if (oldFiles != null) {
+            for (File file : oldFiles) {
+                file.delete();
+            }
+        }
+        Data data = new Data(new ShardedStorage(SHARDED_TEST_DIRECTORY));
+        LocalDate date = LocalDate.of(2021, 3, 31);
+
+        assertDoesNotThrow(() -> {
+            data.addPatient("S1234567D");
+            data.addPatient("S7654321F");
+            data.addPatient("G1234567X");
+            data.saveFile();
+            data.loadCurrentPatient("S7654321F");
+            data.addRecord(date, "coughing", null, null);
+            data.saveFile();
+        });
+        assertTrue(new File(directory, "S1" + Constants.SHARD_FILE_SUFFIX).exists());
+        assertTrue(new File(directory, "S7" + Constants.SHARD_FILE_SUFFIX + Constants.JOURNAL_FILE_SUFFIX).exists());
+        assertFalse(new File(directory, "S1" + Constants.SHARD_FILE_SUFFIX + Constants.JOURNAL_FILE_SUFFIX).exists());
+
+        assertDoesNotThrow(() -> {
+            SortedMap<String, Patient> patients = new ShardedStorage(SHARDED_TEST_DIRECTORY).load();
+            assertEquals(data.getPatients().keySet(), patients.keySet());
+            assertEquals(data.getPatient("S7654321F").getRecord(), patients.get("S7654321F").getRecord());
+        });
+    }
+
+    @Test
+    public void load_shardedStorageOnSaveFile_storageExceptionThrown() throws StorageException {
+        Storage storage = new Storage(TEST_FILE);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        patients.put("S1234567D", new Patient("S1234567D"));
+        storage.save(patients);
+        long lastModified = new File(TEST_FILE).lastModified();
+
+        ShardedStorage shardedStorage = new ShardedStorage(TEST_FILE);
+        StorageException e = assertThrows(StorageException.class, shardedStorage::load);
+        assertEquals(StorageException.Type.NOT_A_DIRECTORY, e.type);
+        assertThrows(StorageException.class, () -> shardedStorage.save(patients));
+        assertEquals(lastModified, new File(TEST_FILE).lastModified());
+    }
+
+    @Test
+    public void load_readOnlyMode_recordsReadWithoutChanges() throws StorageException {
+        Storage storage = new Storage(TEST_FILE);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        Patient patient = new Patient("S1234567D");
+        patient.addRecord(LocalDate.of(2021, 3, 31), "fever", "flu", "paracetamol");
+        patients.put(patient.getID(), patient);
+
+        assertDoesNotThrow(() -> {
+            storage.save(patients);
+            long lastModified = new File(TEST_FILE).lastModified();
+
+            Storage readOnlyStorage = new Storage(TEST_FILE);
+            readOnlyStorage.setReadOnly(true);
+            Data data = new Data(readOnlyStorage, readOnlyStorage.load());
+            assertEquals(patient.getRecord(), data.getPatient("S1234567D").getRecord());
+            assertThrows(DataException.class, data::checkWritable);
+            assertEquals(lastModified, new File(TEST_FILE).lastModified());
+        });
+    }
     //TODO: better tests
 }
@@ -0,0 +1,108 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.exception.StorageException;
+import seedu.duke.model.Patient;
+import seedu.duke.model.Record;
+import seedu.duke.model.TermDictionary;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermDictionaryTest {
+    public static final String TERM_TEST_FILE = "termTestFile.txt";
+
+    @Test
+    public void encode_sameTerm_sameCode() {
+        TermDictionary dictionary = new TermDictionary();
+        assertEquals(0, dictionary.encode("fever"));
+        assertEquals(1, dictionary.encode("cough"));
+        assertEquals(0, dictionary.encode("fever"));
+        assertEquals("fever", dictionary.decode(0));
+        assertEquals("cough", dictionary.decode(1));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void encode_manyTerms_allTermsDecoded() {
+        TermDictionary dictionary = new TermDictionary();
+        // This is more than the initial capacity, so the terms are copied into larger arrays several times
+        int termCount = 5000;
+        for (int i = 0; i < termCount; i++) {
+            assertEquals(i, dictionary.encode("term " + i));
+        }
+        assertEquals(termCount, dictionary.size());
+        for (int i = 0; i < termCount; i++) {
+            assertEquals("term " + i, dictionary.decode(i));
+            assertEquals(i, dictionary.lookup("term " + i));
+        }
+    }
+
+    @Test
+    public void lookup_missingTerm_notAdded() {
+        TermDictionary dictionary = new TermDictionary();
+        dictionary.encode("fever");
+        assertEquals(-1, dictionary.lookup("cough"));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void encode_severalThreads_sameCodes() throws Exception {
+        TermDictionary dictionary = new TermDictionary();
+        String[] terms = new String[2000];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = "term " + i;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> results = executor.invokeAll(List.of(() -> dictionary.encode(terms),
+                    () -> dictionary.encode(terms), () -> dictionary.encode(terms), () -> dictionary.encode(terms)));
+            int[] codes = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertArrayEquals(codes, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(terms.length, dictionary.size());
+        for (int i = 0; i < terms.length; i++) {
+            assertEquals(terms[i], dictionary.decode(dictionary.lookup(terms[i])));
+        }
+    }
+
+    @Test
+    public void load_binaryFormat_detailsEncodedThroughSharedDictionary() throws StorageException {
+        Storage storage = new Storage(TERM_TEST_FILE);
+        storage.setFormat(Storage.Format.BINARY);
+        SortedMap<String, Patient> patients = new TreeMap<>();
+        Patient patient = new Patient("S1234567D");
+        LocalDate date = LocalDate.of(2021, 3, 31);
+        patient.addRecord(date, "term dictionary symptom", "term dictionary diagnosis", null);
+        patient.addRecord(date, "fever", null, "term dictionary prescription");
+        patients.put(patient.getID(), patient);
+        storage.save(patients);
+
+        Record record = new Storage(TERM_TEST_FILE).load().get("S1234567D").getRecords().get(date);
+        new File(TERM_TEST_FILE).delete();
+        new File(TERM_TEST_FILE + Constants.INDEX_FILE_SUFFIX).delete();
+
+        assertEquals(patient.getRecords().get(date).toString(), record.toString());
+        TermDictionary dictionary = TermDictionary.getInstance();
+        for (String detail : List.of("term dictionary symptom", "term dictionary diagnosis", "fever",
+                "term dictionary prescription")) {
+            assertTrue(dictionary.lookup(detail) >= 0);
+        }
+        assertEquals(List.of("term dictionary symptom", "fever"), record.getSymptoms());
+        assertEquals(List.of("term dictionary prescription"), record.getPrescriptions());
+    }
+}
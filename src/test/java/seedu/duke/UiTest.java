@@ -0,0 +1,35 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UiTest {
+    @Test
+    public void printMessage_bufferedOutput_writtenOnFlush() {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Ui ui = new Ui(bos, false);
+
+        ui.printMessage("first");
+        ui.printLine();
+        assertEquals("", bos.toString());
+
+        ui.flush();
+        assertEquals("first" + System.lineSeparator() + Constants.LONG_LINE + System.lineSeparator(), bos.toString());
+    }
+
+    @Test
+    public void printMessage_batchOutput_writtenOnClose() {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Ui ui = new Ui(bos, true);
+
+        ui.printMessage("first");
+        ui.flush();
+        assertEquals("", bos.toString());
+
+        ui.close();
+        assertEquals("first" + System.lineSeparator(), bos.toString());
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.duke.command;
 
+import java.util.HashMap;
+
+import seedu.duke.Data;
+import seedu.duke.Ui;
+import seedu.duke.exception.UnknownException;
+
 public class MalformedCommand extends Command {
 
     /**
-     *  This is a non-standard initializer, which should trigger UnknownException.
+     *  This is an initializer which always fails, which should trigger UnknownException.
      */
-    public MalformedCommand() {
-        super(null, null, null);
+    public MalformedCommand(Ui ui, Data data, HashMap<String, String> arguments) throws UnknownException {
+        super(ui, data, arguments);
+        throw new UnknownException(new IllegalStateException("MalformedCommand cannot be initialized"));
     }
 
     @Override